@@ -31,10 +31,12 @@ class DefaultContent implements StyledTextContent {
 	int highWatermark = 300;
 	int lowWatermark = 50;
 
-	int[][] lines = new int[50][2];	// array of character positions and lengths representing the lines of text
+	int[] lineStarts = new int[50];	// character positions of the lines of text, see lineShift
+	int[] lineLengths = new int[50];	// lengths of the lines of text
 	int lineCount = 0;	// the number of lines of text
+	int shiftLine = 0;	// the first line whose stored character position is relative to lineShift
+	int lineShift = 0;	// the offset to add to the stored character positions of the lines from shiftLine on
 	int expandExp = 1; 	// the expansion exponent, used to increase the lines array exponentially
-	int replaceExpandExp = 1; 	// the expansion exponent, used to increase the lines array exponentially
 
 /**
  * Creates a new DefaultContent and initializes it.  A <code>StyledTextContent</code> will always have
@@ -53,41 +55,18 @@ DefaultContent() {
  * @param length the length of the line
  */
 void addLineIndex(int start, int length) {
-	int size = lines.length;
+	int size = lineStarts.length;
 	if (lineCount == size) {
 		// expand the lines by powers of 2
-		int[][] newLines = new int[size+Compatibility.pow2(expandExp)][2];
-		System.arraycopy(lines, 0, newLines, 0, size);
-		lines = newLines;
+		int newSize = size+Compatibility.pow2(expandExp);
+		lineStarts = Arrays.copyOf(lineStarts, newSize);
+		lineLengths = Arrays.copyOf(lineLengths, newSize);
 		expandExp++;
 	}
-	int[] range = new int[] {start, length};
-	lines[lineCount] = range;
+	setLineStart(lineCount, start);
+	lineLengths[lineCount] = length;
 	lineCount++;
 }
-/**
- * Adds a line index to the end of <code>linesArray</code>.  Increases the
- * size of the array if necessary and returns a new array.
- * <p>
- *
- * @param start the start of the line
- * @param length the length of the line
- * @param linesArray the array to which to add the line index
- * @param count the position at which to add the line
- * @return a new array of line indexes
- */
-int[][] addLineIndex(int start, int length, int[][] linesArray, int count) {
-	int size = linesArray.length;
-	int[][] newLines = linesArray;
-	if (count == size) {
-		newLines = new int[size+Compatibility.pow2(replaceExpandExp)][2];
-		replaceExpandExp++;
-		System.arraycopy(linesArray, 0, newLines, 0, size);
-	}
-	int[] range = new int[] {start, length};
-	newLines[count] = range;
-	return newLines;
-}
 /**
  * Adds a <code>TextChangeListener</code> listening for
  * <code>TextChangingEvent</code> and <code>TextChangedEvent</code>. A
@@ -229,14 +208,13 @@ private void validateReplace(int start, int replaceLength) {
  * @param numLines the number of lines to initially allocate for the line index array,
  *	passed in for efficiency (the exact number of lines may be known)
  * @return a line indexes array where each line is identified by a start offset and
- * 	a length
+ * 	a length at the indexes 2 * line and 2 * line + 1
  */
-int[][] indexLines(int offset, int length, int numLines){
-	int[][] indexedLines = new int[numLines][2];
+int[] indexLines(int offset, int length, int numLines){
+	int[] indexedLines = new int[numLines * 2];
 	int start = 0;
 	int lineCount = 0;
 	int i;
-	replaceExpandExp = 1;
 	for (i = start; i < length; i++) {
 		int location = i + offset;
 		if ((location >= gapStart) && (location < gapEnd)) {
@@ -261,10 +239,29 @@ int[][] indexLines(int offset, int length, int numLines){
 			}
 		}
 	}
-	int[][] newLines = new int[lineCount+1][2];
-	System.arraycopy(indexedLines, 0, newLines, 0, lineCount);
-	int[] range = new int[] {start, i - start};
-	newLines[lineCount] = range;
+	int[] newLines = Arrays.copyOf(indexedLines, (lineCount + 1) * 2);
+	newLines[lineCount * 2] = start;
+	newLines[lineCount * 2 + 1] = i - start;
+	return newLines;
+}
+/**
+ * Adds a line index to <code>linesArray</code>.  Increases the size of
+ * the array if necessary and returns a new array.
+ * <p>
+ *
+ * @param start the start of the line
+ * @param length the length of the line
+ * @param linesArray the array to which to add the line index
+ * @param count the position at which to add the line
+ * @return a new array of line indexes
+ */
+int[] addLineIndex(int start, int length, int[] linesArray, int count) {
+	int[] newLines = linesArray;
+	if (count * 2 == linesArray.length) {
+		newLines = Arrays.copyOf(linesArray, Math.max(linesArray.length * 2, 2));
+	}
+	newLines[count * 2] = start;
+	newLines[count * 2 + 1] = length;
 	return newLines;
 }
 /**
@@ -299,10 +296,11 @@ void insert(int position, String text) {
 	}
 
 	// figure out the number of new lines that have been inserted
-	int [][] newLines = indexLines(startLineOffset, startLineLength, 10);
+	int [] newLines = indexLines(startLineOffset, startLineLength, 10);
+	int newLineCount = newLines.length / 2;
 	// only insert an empty line if it is the last line in the text
-	int numNewLines = newLines.length - 1;
-	if (newLines[numNewLines][1] == 0) {
+	int numNewLines = newLineCount - 1;
+	if (newLines[numNewLines * 2 + 1] == 0) {
 		// last inserted line is a new line
 		if (endInsert) {
 			// insert happening at end of the text, leave numNewLines as
@@ -317,18 +315,16 @@ void insert(int position, String text) {
 	// make room for the new lines
 	expandLinesBy(numNewLines);
 	// shift down the lines after the replace line
-	for (int i = lineCount - 1; i > startLine; i--) {
-		lines[i + numNewLines]=lines[i];
-	}
+	moveLines(startLine + 1, numNewLines);
 	// insert the new lines
 	for (int i = 0; i < numNewLines; i++) {
-		newLines[i][0] += startLineOffset;
-		lines[startLine + i]=newLines[i];
+		setLineStart(startLine + i, newLines[i * 2] + startLineOffset);
+		lineLengths[startLine + i] = newLines[i * 2 + 1];
 	}
 	// update the last inserted line
-	if (numNewLines < newLines.length) {
-		newLines[numNewLines][0] += startLineOffset;
-		lines[startLine + numNewLines] = newLines[numNewLines];
+	if (numNewLines < newLineCount) {
+		setLineStart(startLine + numNewLines, newLines[numNewLines * 2] + startLineOffset);
+		lineLengths[startLine + numNewLines] = newLines[numNewLines * 2 + 1];
 	}
 
 	lineCount += numNewLines;
@@ -356,11 +352,9 @@ void moveAndResizeGap(int position, int size, int newGapLine) {
 	// remove the old gap from the lines information
 	if (gapExists()) {
 		// adjust the line length
-		lines[gapLine][1] = lines[gapLine][1] - oldSize;
+		lineLengths[gapLine] = lineLengths[gapLine] - oldSize;
 		// adjust the offsets of the lines after the gapLine
-		for (int i = gapLine + 1; i < lineCount; i++) {
-			lines[i][0] = lines[i][0] - oldSize;
-		}
+		shiftLines(gapLine + 1, -oldSize);
 	}
 
 	if (newSize < 0) {
@@ -374,24 +368,36 @@ void moveAndResizeGap(int position, int size, int newGapLine) {
 		gapStart = gapEnd = position;
 		return;
 	}
-	content = new char[textStore.length + (newSize - oldSize)];
 	int newGapStart = position;
 	int newGapEnd = newGapStart + newSize;
-	if (oldSize == 0) {
-		System.arraycopy(textStore, 0, content, 0, newGapStart);
-		System.arraycopy(textStore, newGapStart, content, newGapEnd, content.length - newGapEnd);
-	} else if (newGapStart < gapStart) {
-		int delta = gapStart - newGapStart;
-		System.arraycopy(textStore, 0, content, 0, newGapStart);
-		System.arraycopy(textStore, newGapStart, content, newGapEnd, delta);
-		System.arraycopy(textStore, gapEnd, content, newGapEnd + delta, textStore.length - gapEnd);
+	if (oldSize > 0 && lowWatermark <= oldSize - size && oldSize - size <= highWatermark) {
+		// the gap fits the change, move it within the text store
+		newGapEnd = newGapStart + oldSize;
+		if (newGapStart < gapStart) {
+			System.arraycopy(textStore, newGapStart, textStore, newGapEnd, gapStart - newGapStart);
+		} else {
+			System.arraycopy(textStore, gapEnd, textStore, gapStart, newGapStart - gapStart);
+		}
+		// clear the gap as a new text store would be
+		Arrays.fill(textStore, newGapStart, newGapEnd, (char) 0);
 	} else {
-		int delta = newGapStart - gapStart;
-		System.arraycopy(textStore, 0, content, 0, gapStart);
-		System.arraycopy(textStore, gapEnd, content, gapStart, delta);
-		System.arraycopy(textStore, gapEnd + delta, content, newGapEnd, content.length - newGapEnd);
+		content = new char[textStore.length + (newSize - oldSize)];
+		if (oldSize == 0) {
+			System.arraycopy(textStore, 0, content, 0, newGapStart);
+			System.arraycopy(textStore, newGapStart, content, newGapEnd, content.length - newGapEnd);
+		} else if (newGapStart < gapStart) {
+			int delta = gapStart - newGapStart;
+			System.arraycopy(textStore, 0, content, 0, newGapStart);
+			System.arraycopy(textStore, newGapStart, content, newGapEnd, delta);
+			System.arraycopy(textStore, gapEnd, content, newGapEnd + delta, textStore.length - gapEnd);
+		} else {
+			int delta = newGapStart - gapStart;
+			System.arraycopy(textStore, 0, content, 0, gapStart);
+			System.arraycopy(textStore, gapEnd, content, gapStart, delta);
+			System.arraycopy(textStore, gapEnd + delta, content, newGapEnd, content.length - newGapEnd);
+		}
+		textStore = content;
 	}
-	textStore = content;
 	gapStart = newGapStart;
 	gapEnd = newGapEnd;
 
@@ -400,11 +406,9 @@ void moveAndResizeGap(int position, int size, int newGapLine) {
 		gapLine = newGapLine;
 		// adjust the line length
 		int gapLength = gapEnd - gapStart;
-		lines[gapLine][1] = lines[gapLine][1] + (gapLength);
+		lineLengths[gapLine] = lineLengths[gapLine] + (gapLength);
 		// adjust the offsets of the lines after the gapLine
-		for (int i = gapLine + 1; i < lineCount; i++) {
-			lines[i][0] = lines[i][0] + gapLength;
-		}
+		shiftLines(gapLine + 1, gapLength);
 	}
 }
 /**
@@ -493,8 +497,8 @@ public int getCharCount() {
 @Override
 public String getLine(int index) {
 	if ((index >= lineCount) || (index < 0)) error(SWT.ERROR_INVALID_ARGUMENT);
-	int start = lines[index][0];
-	int length = lines[index][1];
+	int start = lineStart(index);
+	int length = lineLengths[index];
 	int end = start + length - 1;
 	if (!gapExists() || (end < gapStart) || (start >= gapEnd)) {
 		// line is before or after the gap
@@ -535,8 +539,8 @@ public String getLineDelimiter() {
  * @return the logical line text (i.e., without the gap) with delimiters
  */
 String getFullLine(int index) {
-	int start = lines[index][0];
-	int length = lines[index][1];
+	int start = lineStart(index);
+	int length = lineLengths[index];
 	int end = start + length - 1;
 	if (!gapExists() || (end < gapStart) || (start >= gapEnd)) {
 		// line is before or after the gap
@@ -558,8 +562,8 @@ String getFullLine(int index) {
  * @return the physical line
  */
 String getPhysicalLine(int index) {
-	int start = lines[index][0];
-	int length = lines[index][1];
+	int start = lineStart(index);
+	int length = lineLengths[index];
 	return getPhysicalText(start, length);
 }
 /**
@@ -596,7 +600,7 @@ public int getLineAtOffset(int charPosition){
 	// last character) - for inserting
 	if (lineCount > 0) {
 		int lastLine = lineCount - 1;
-		if (position == lines[lastLine][0] + lines[lastLine][1])
+		if (position == lineStart(lastLine) + lineLengths[lastLine])
 			return lastLine;
 	}
 
@@ -605,8 +609,8 @@ public int getLineAtOffset(int charPosition){
 	int index = lineCount;
 	while (high - low > 1) {
 		index = (high + low) / 2;
-		int lineStart = lines[index][0];
-		int lineEnd = lineStart + lines[index][1] - 1;
+		int lineStart = lineStart(index);
+		int lineEnd = lineStart + lineLengths[index] - 1;
 		if (position <= lineStart) {
 			high = index;
 		} else if (position <= lineEnd) {
@@ -631,8 +635,8 @@ int getLineAtPhysicalOffset(int position){
 	int index = lineCount;
 	while (high - low > 1) {
 		index = (high + low) / 2;
-		int lineStart = lines[index][0];
-		int lineEnd = lineStart + lines[index][1] - 1;
+		int lineStart = lineStart(index);
+		int lineEnd = lineStart + lineLengths[index] - 1;
 		if (position <= lineStart) {
 			high = index;
 		} else if (position <= lineEnd) {
@@ -659,7 +663,7 @@ int getLineAtPhysicalOffset(int position){
 public int getOffsetAtLine(int lineIndex) {
 	if (lineIndex == 0) return 0;
 	if ((lineIndex >= lineCount) || (lineIndex < 0)) error(SWT.ERROR_INVALID_ARGUMENT);
-	int start = lines[lineIndex][0];
+	int start = lineStart(lineIndex);
 	if (start > gapEnd) {
 		return start - (gapEnd - gapStart);
 	} else {
@@ -673,13 +677,82 @@ public int getOffsetAtLine(int lineIndex) {
  * @param numLines the number to increase the array by
  */
 void expandLinesBy(int numLines) {
-	int size = lines.length;
+	int size = lineStarts.length;
 	if (size - lineCount >= numLines) {
 		return;
 	}
-	int[][] newLines = new int[size+Math.max(10, numLines)][2];
-	System.arraycopy(lines, 0, newLines, 0, size);
-	lines = newLines;
+	int newSize = size+Math.max(10, numLines);
+	lineStarts = Arrays.copyOf(lineStarts, newSize);
+	lineLengths = Arrays.copyOf(lineLengths, newSize);
+}
+/**
+ * Returns the character position of the given line.
+ * <p>
+ *
+ * @param index the line index
+ * @return the physical start offset of the line
+ */
+int lineStart(int index) {
+	int start = lineStarts[index];
+	return index < shiftLine ? start : start + lineShift;
+}
+/**
+ * Sets the character position of the given line.
+ * <p>
+ *
+ * @param index the line index
+ * @param start the physical start offset of the line
+ */
+void setLineStart(int index, int start) {
+	lineStarts[index] = index < shiftLine ? start : start - lineShift;
+}
+/**
+ * Adds <code>delta</code> to the character positions of the lines starting
+ * at <code>index</code>.  The positions of the lines from <code>shiftLine</code>
+ * on share the pending offset <code>lineShift</code>, so only the lines
+ * between <code>index</code> and <code>shiftLine</code> are updated.  Edits
+ * happen close to each other, which makes this independent of the number
+ * of lines after the change.
+ * <p>
+ *
+ * @param index the first line to shift
+ * @param delta the offset to add
+ */
+void shiftLines(int index, int delta) {
+	setShiftLine(index);
+	lineShift += delta;
+}
+/**
+ * Moves the start of the lines that share the pending offset to the given line.
+ * <p>
+ *
+ * @param index the new first line that shares the pending offset
+ */
+void setShiftLine(int index) {
+	for (int i = shiftLine; i < index; i++) {
+		lineStarts[i] += lineShift;
+	}
+	for (int i = index; i < shiftLine; i++) {
+		lineStarts[i] -= lineShift;
+	}
+	shiftLine = index;
+}
+/**
+ * Moves the indexes of the lines starting at <code>index</code> by
+ * <code>count</code> lines.  Does not change <code>lineCount</code>.
+ * <p>
+ *
+ * @param index the first line to move
+ * @param count the number of lines to move by, negative to move up
+ */
+void moveLines(int index, int count) {
+	if (count == 0 || index >= lineCount) return;
+	// the moved lines must not cross the start of the shifted lines
+	int first = Math.min(index, index + count);
+	int last = Math.max(lineCount, lineCount + count);
+	if (first < shiftLine && shiftLine < last) setShiftLine(first);
+	System.arraycopy(lineStarts, index, lineStarts, index + count, lineCount - index);
+	System.arraycopy(lineLengths, index, lineLengths, index + count, lineCount - index);
 }
 /**
  * Reports an SWT error.
@@ -832,6 +905,7 @@ public void setText (String text){
 	gapStart = -1;
 	gapEnd = -1;
 	expandExp = 1;
+	shiftLine = lineShift = 0;
 	indexLines();
 	StyledTextEvent event = new StyledTextEvent(this);
 	event.type = ST.TextSet;
@@ -862,7 +936,7 @@ void delete(int position, int length, int numLines) {
 	}
 
 	adjustGap(position + length, -length, startLine);
-	int [][] oldLines = indexLines(position, length + (gapEnd - gapStart), numLines);
+	int [] oldLines = indexLines(position, length + (gapEnd - gapStart), numLines);
 
 	// enlarge the gap - the gap can be enlarged either to the
 	// right or left
@@ -891,15 +965,13 @@ void delete(int position, int length, int numLines) {
 		j++;
 	}
 	// update the line where the deletion started
-	lines[startLine][1] = (position - startLineOffset) + (j - position);
+	lineLengths[startLine] = (position - startLineOffset) + (j - position);
 	// figure out the number of lines that have been deleted
-	int numOldLines = oldLines.length - 1;
+	int numOldLines = oldLines.length / 2 - 1;
 	if (splittingDelimiter) numOldLines -= 1;
 	// shift up the lines after the last deleted line, no need to update
 	// the offset or length of the lines
-	for (int i = endLine + 1; i < lineCount; i++) {
-		lines[i - numOldLines] = lines[i];
-	}
+	moveLines(endLine + 1, -numOldLines);
 	lineCount -= numOldLines;
 	gapLine = getLineAtPhysicalOffset(gapStart);
 }
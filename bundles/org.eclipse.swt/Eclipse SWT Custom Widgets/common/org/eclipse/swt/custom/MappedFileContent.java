@@ -0,0 +1,459 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * A read-only <code>StyledTextContent</code> that shows a UTF-8 encoded file
+ * without reading it into memory.  The file is mapped into memory and lines
+ * are decoded when the widget asks for them.
+ * <p>
+ * The line index is built in the background.  Until it is complete, the
+ * content holds the part of the file that has been indexed so far and grows
+ * as more of the file is indexed.  Every step sends the text change listeners
+ * a change that appends the new text, so a <code>StyledText</code> shows the
+ * beginning of the file right away.  The <code>newText</code> of these changes
+ * is empty; the appended text is available from the content once the
+ * <code>TextChanged</code> event is sent.
+ * </p>
+ * <p>
+ * The index keeps one entry for every 64 lines and at least one for every
+ * 64 kilobytes, so its size does not depend on the length of the lines.
+ * The file is expected not to change while it is shown.  Malformed UTF-8
+ * is shown as U+FFFD.  Files with more than <code>Integer.MAX_VALUE</code>
+ * characters are shown up to that number of characters.
+ * </p>
+ * <p>
+ * The content must be disposed when it is no longer needed.  Changing
+ * the content fails with <code>ERROR_NOT_IMPLEMENTED</code>, the
+ * <code>StyledText</code> showing it should be created with
+ * <code>SWT.READ_ONLY</code>.
+ * </p>
+ *
+ * @see StyledText#setContent(StyledTextContent)
+ * @since 3.129
+ */
+public class MappedFileContent implements StyledTextContent {
+	static final int SEGMENT_SHIFT = 30;	// bytes per mapping as power of 2
+	static final int LINES_PER_ENTRY = 64;
+	static final int BYTES_PER_ENTRY = 64 * 1024;
+	static final int BLOCK_SIZE = 4 * 1024 * 1024;	// bytes indexed between changes
+
+	Display display;
+	MappedByteBuffer[] segments;
+	long size;
+	volatile boolean disposed;
+	List<StyledTextListener> textListeners = new ArrayList<>();
+
+	/* The indexed part of the file, only accessed in the user-interface thread */
+	long[] indexBytes = new long[] {0};	// byte offset of each index entry
+	int[] indexChars = new int[] {0};	// character offset of each index entry
+	int[] indexLines = new int[] {0};	// line of each index entry
+	int indexCount = 1;
+	long byteCount;
+	int charCount, lineCount = 1;
+
+	/* The result of the last scan, only accessed in the user-interface thread */
+	long scanByte;
+	int scanChar, scanLine;
+
+/**
+ * Creates a content that shows the given file and starts to index it.
+ *
+ * @param display the display that is used to send the changes of the content
+ * @param fileName the name of the UTF-8 encoded file
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the display or the file name is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_IO - if an IO error occurs while opening the file</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread of the display</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the display has been disposed</li>
+ * </ul>
+ */
+public MappedFileContent(Display display, String fileName) {
+	if (display == null || fileName == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (display.isDisposed()) SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+	if (display.getThread() != Thread.currentThread()) SWT.error(SWT.ERROR_THREAD_INVALID_ACCESS);
+	this.display = display;
+	try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+		size = channel.size();
+		int segmentCount = (int) ((size + (1L << SEGMENT_SHIFT) - 1) >>> SEGMENT_SHIFT);
+		segments = new MappedByteBuffer[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			long position = (long) i << SEGMENT_SHIFT;
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(1L << SEGMENT_SHIFT, size - position));
+		}
+	} catch (IOException | InvalidPathException e) {
+		SWT.error(SWT.ERROR_IO, e);
+	}
+	Thread thread = new Thread(this::index, "SWT MappedFileContent " + fileName); //$NON-NLS-1$
+	thread.setDaemon(true);
+	thread.start();
+}
+@Override
+public void addTextChangeListener(TextChangeListener listener) {
+	if (listener == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	StyledTextListener typedListener = new StyledTextListener(listener);
+	textListeners.add(typedListener);
+}
+@Override
+public void removeTextChangeListener(TextChangeListener listener) {
+	if (listener == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	for (int i = 0; i < textListeners.size(); i++) {
+		TypedListener typedListener = textListeners.get(i);
+		if (typedListener.getEventListener() == listener) {
+			textListeners.remove(i);
+			break;
+		}
+	}
+}
+/**
+ * Stops indexing the file.  The content keeps the part of the file
+ * that has been indexed.
+ */
+public void dispose() {
+	disposed = true;
+}
+/**
+ * Returns whether the content has been disposed.
+ *
+ * @return <code>true</code> if the content has been disposed
+ */
+public boolean isDisposed() {
+	return disposed;
+}
+/**
+ * Returns whether the whole file has been indexed.
+ *
+ * @return <code>true</code> if the content holds the whole file
+ */
+public boolean isIndexed() {
+	return byteCount == size;
+}
+byte get(long position) {
+	return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & ((1L << SEGMENT_SHIFT) - 1)));
+}
+/**
+ * Returns the number of characters decoded from the byte sequence that starts
+ * with the given byte.  Sequences of four bytes decode to a surrogate pair, or
+ * to two replacement characters when they are malformed.
+ */
+static int charCount(int b) {
+	return (b & 0xF8) == 0xF0 ? 2 : 1;
+}
+/**
+ * Returns the end of the byte sequence that starts at the given position.  A
+ * sequence is a lead byte followed by at most the number of continuation bytes
+ * it announces.  Any other byte forms a sequence by itself.
+ */
+long next(long position) {
+	int b = get(position++) & 0xFF;
+	if (b < 0xC0 || b >= 0xF8) return position;
+	int extra = b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : 1;
+	for (int i = 0; i < extra && position < size && (get(position) & 0xC0) == 0x80; i++) {
+		position++;
+	}
+	return position;
+}
+/**
+ * Indexes the file in the background thread and hands over the index to the
+ * user-interface thread after every block.
+ */
+void index() {
+	long[] bytes = indexBytes.clone();
+	int[] chars = indexChars.clone(), lines = indexLines.clone();
+	int count = 1;
+	long position = 0, charTotal = 0;
+	int line = 0;
+	boolean truncated = false;
+	while (position < size && !disposed && !truncated) {
+		long end = Math.min(position + BLOCK_SIZE, size);
+		while (position < end) {
+			if (line - lines[count - 1] >= LINES_PER_ENTRY || position - bytes[count - 1] >= BYTES_PER_ENTRY) {
+				if (count == bytes.length) {
+					bytes = Arrays.copyOf(bytes, count * 2);
+					chars = Arrays.copyOf(chars, count * 2);
+					lines = Arrays.copyOf(lines, count * 2);
+				}
+				bytes[count] = position;
+				chars[count] = (int) charTotal;
+				lines[count] = line;
+				count++;
+			}
+			byte b = get(position);
+			long nextPosition;
+			int n;
+			boolean delimiter = b == SWT.CR || b == SWT.LF;
+			if (b == SWT.CR && position + 1 < size && get(position + 1) == SWT.LF) {
+				nextPosition = position + 2;
+				n = 2;
+			} else {
+				nextPosition = next(position);
+				n = charCount(b & 0xFF);
+			}
+			if (charTotal + n > Integer.MAX_VALUE) {
+				truncated = true;
+				break;
+			}
+			if (delimiter) line++;
+			charTotal += n;
+			position = nextPosition;
+		}
+		long newByteCount = position;
+		int newCharCount = (int) charTotal, newLineCount = line + 1, newIndexCount = count;
+		long[] newBytes = bytes;
+		int[] newChars = chars, newLines = lines;
+		try {
+			publish(() -> append(newBytes, newChars, newLines, newIndexCount, newByteCount, newCharCount, newLineCount));
+		} catch (SWTException e) {
+			return;
+		}
+	}
+}
+/**
+ * Runs the runnable in the user-interface thread and waits for it.
+ */
+void publish(Runnable runnable) {
+	display.syncExec(runnable);
+}
+/**
+ * Makes the newly indexed text part of the content and informs the listeners.
+ */
+void append(long[] bytes, int[] chars, int[] lines, int count, long newByteCount, int newCharCount, int newLineCount) {
+	if (disposed) return;
+	StyledTextEvent event = new StyledTextEvent(this);
+	event.type = ST.TextChanging;
+	event.start = charCount;
+	event.replaceLineCount = 0;
+	event.text = "";
+	event.newLineCount = newLineCount - lineCount;
+	event.replaceCharCount = 0;
+	event.newCharCount = newCharCount - charCount;
+	sendTextEvent(event);
+	indexBytes = bytes;
+	indexChars = chars;
+	indexLines = lines;
+	indexCount = count;
+	byteCount = newByteCount;
+	charCount = newCharCount;
+	lineCount = newLineCount;
+	event = new StyledTextEvent(this);
+	event.type = ST.TextChanged;
+	sendTextEvent(event);
+}
+void sendTextEvent(StyledTextEvent event) {
+	for (StyledTextListener textListener : textListeners) {
+		textListener.handleEvent(event);
+	}
+}
+/**
+ * Starts a scan at the last index entry before the given line.
+ */
+void scanFromLine(int line) {
+	int low = 0, high = indexCount - 1;
+	while (low < high) {
+		int mid = (low + high + 1) >>> 1;
+		if (indexLines[mid] < line) {
+			low = mid;
+		} else {
+			high = mid - 1;
+		}
+	}
+	scanByte = indexBytes[low];
+	scanChar = indexChars[low];
+	scanLine = indexLines[low];
+}
+/**
+ * Starts a scan at the last index entry at or before the given offset.
+ */
+void scanFromOffset(int offset) {
+	int low = 0, high = indexCount - 1;
+	while (low < high) {
+		int mid = (low + high + 1) >>> 1;
+		if (indexChars[mid] <= offset) {
+			low = mid;
+		} else {
+			high = mid - 1;
+		}
+	}
+	scanByte = indexBytes[low];
+	scanChar = indexChars[low];
+	scanLine = indexLines[low];
+}
+/**
+ * Scans forward to the start of the given line.
+ */
+void scanToLine(int line) {
+	while (scanLine < line) {
+		byte b = get(scanByte);
+		if (b == SWT.CR && scanByte + 1 < byteCount && get(scanByte + 1) == SWT.LF) {
+			scanByte += 2;
+			scanChar += 2;
+			scanLine++;
+			continue;
+		}
+		if (b == SWT.LF || b == SWT.CR) scanLine++;
+		scanChar += charCount(b & 0xFF);
+		scanByte = next(scanByte);
+	}
+}
+/**
+ * Scans forward to the given offset.  Stops one character before the offset
+ * when the offset is inside a \r\n line delimiter or a surrogate pair.
+ */
+void scanToOffset(int offset) {
+	while (scanChar < offset) {
+		byte b = get(scanByte);
+		if (b == SWT.CR && scanByte + 1 < byteCount && get(scanByte + 1) == SWT.LF) {
+			if (scanChar + 2 > offset) return;
+			scanByte += 2;
+			scanChar += 2;
+			scanLine++;
+			continue;
+		}
+		int n = charCount(b & 0xFF);
+		if (scanChar + n > offset) return;
+		if (b == SWT.LF || b == SWT.CR) scanLine++;
+		scanByte = next(scanByte);
+		scanChar += n;
+	}
+}
+/**
+ * Appends the characters decoded from the bytes starting at the given position
+ * to the buffer, until the end position is reached or the buffer holds length
+ * characters.  The first skip characters are not appended.
+ */
+void decode(long position, long end, int skip, int length, StringBuilder buffer) {
+	while (position < end && buffer.length() < length) {
+		int b = get(position++) & 0xFF;
+		if (b < 0x80) {
+			if (skip > 0) {
+				skip--;
+			} else {
+				buffer.append((char) b);
+			}
+			continue;
+		}
+		int extra = b < 0xC0 || b >= 0xF8 ? 0 : b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : 1;
+		int codePoint = b & (0x3F >> extra), i = 0;
+		while (i < extra && position < size) {
+			int next = get(position) & 0xFF;
+			if ((next & 0xC0) != 0x80) break;
+			codePoint = codePoint << 6 | next & 0x3F;
+			position++;
+			i++;
+		}
+		int min = extra == 1 ? 0x80 : extra == 2 ? 0x800 : 0x10000;
+		boolean valid = extra > 0 && i == extra && codePoint >= min && codePoint <= 0x10FFFF && (codePoint < 0xD800 || codePoint > 0xDFFF);
+		char[] units;
+		if (extra == 3) {
+			units = valid ? Character.toChars(codePoint) : new char[] {'\uFFFD', '\uFFFD'};
+		} else {
+			units = new char[] {valid ? (char) codePoint : '\uFFFD'};
+		}
+		for (char unit : units) {
+			if (skip > 0) {
+				skip--;
+			} else if (buffer.length() < length) {
+				buffer.append(unit);
+			}
+		}
+	}
+}
+@Override
+public int getCharCount() {
+	return charCount;
+}
+@Override
+public String getLine(int lineIndex) {
+	if (lineIndex < 0 || lineIndex >= lineCount) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	scanFromLine(lineIndex);
+	scanToLine(lineIndex);
+	long start = scanByte, end = start;
+	while (end < byteCount) {
+		byte b = get(end);
+		if (b == SWT.CR || b == SWT.LF) break;
+		end++;
+	}
+	StringBuilder buffer = new StringBuilder((int) Math.min(end - start, Integer.MAX_VALUE - 8));
+	decode(start, end, 0, Integer.MAX_VALUE, buffer);
+	return buffer.toString();
+}
+@Override
+public int getLineAtOffset(int offset) {
+	if (offset < 0 || offset > charCount) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	scanFromOffset(offset);
+	scanToOffset(offset);
+	return scanLine;
+}
+@Override
+public int getLineCount() {
+	return lineCount;
+}
+@Override
+public String getLineDelimiter() {
+	return System.lineSeparator();
+}
+@Override
+public int getOffsetAtLine(int lineIndex) {
+	if (lineIndex == 0) return 0;
+	if (lineIndex < 0 || lineIndex >= lineCount) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	scanFromLine(lineIndex);
+	scanToLine(lineIndex);
+	return scanChar;
+}
+@Override
+public String getTextRange(int start, int length) {
+	if (start < 0 || length < 0 || start + length > charCount) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (length == 0) return "";
+	scanFromOffset(start);
+	scanToOffset(start);
+	StringBuilder buffer = new StringBuilder(length);
+	decode(scanByte, byteCount, start - scanChar, length, buffer);
+	return buffer.toString();
+}
+/**
+ * The content is read-only.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_NOT_IMPLEMENTED - always</li>
+ * </ul>
+ */
+@Override
+public void replaceTextRange(int start, int replaceLength, String text) {
+	SWT.error(SWT.ERROR_NOT_IMPLEMENTED);
+}
+/**
+ * The content is read-only.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_NOT_IMPLEMENTED - always</li>
+ * </ul>
+ */
+@Override
+public void setText(String text) {
+	SWT.error(SWT.ERROR_NOT_IMPLEMENTED);
+}
+}
@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import java.util.*;
+import java.util.List;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * A <code>StyledTextContent</code> for large documents.  The text is kept in
+ * chunks of bounded size that form a balanced tree (a treap), where every node
+ * knows the number of characters and line delimiters of its subtree.  Mapping
+ * between lines and offsets and replacing text cost O(log n) in the number of
+ * chunks wherever the change occurs, instead of moving a gap through the text.
+ * <p>
+ * A \r\n line delimiter is never split between two chunks, so each chunk can
+ * find its own delimiters.  Unlike <code>DefaultContent</code>, a \r followed
+ * by a \n always forms a single delimiter, also when an edit brings them
+ * together; the line counts of the <code>TextChanging</code> event account
+ * for that.
+ * </p>
+ */
+class RopeContent implements StyledTextContent {
+	private final static String LineDelimiter = System.lineSeparator();
+	static final int CHUNK_SIZE = 4096;
+
+	List<StyledTextListener> textListeners = new ArrayList<>(); // stores text listeners for event sending
+	Node root;	// the chunks of the text, null if the text is empty
+	Random random = new Random();	// priorities of the tree nodes
+
+	static final class Node {
+		final String text;
+		final int[] lineEnds;	// offsets in text after each line delimiter
+		final int priority;
+		Node left, right;
+		int charCount, lineCount;	// totals of the subtree, lineCount counts delimiters
+
+		Node(String text, int priority) {
+			this.text = text;
+			this.priority = priority;
+			int length = text.length(), count = 0;
+			for (int i = 0; i < length; i++) {
+				char ch = text.charAt(i);
+				if (ch == SWT.LF || ch == SWT.CR && (i + 1 == length || text.charAt(i + 1) != SWT.LF)) count++;
+			}
+			lineEnds = new int[count];
+			count = 0;
+			for (int i = 0; i < length; i++) {
+				char ch = text.charAt(i);
+				if (ch == SWT.LF || ch == SWT.CR && (i + 1 == length || text.charAt(i + 1) != SWT.LF)) lineEnds[count++] = i + 1;
+			}
+			update();
+		}
+
+		void update() {
+			charCount = text.length();
+			lineCount = lineEnds.length;
+			if (left != null) {
+				charCount += left.charCount;
+				lineCount += left.lineCount;
+			}
+			if (right != null) {
+				charCount += right.charCount;
+				lineCount += right.lineCount;
+			}
+		}
+	}
+
+/**
+ * Creates a new RopeContent and initializes it.  A <code>StyledTextContent</code> will always have
+ * at least one empty line.
+ */
+RopeContent() {
+	super();
+	setText("");
+}
+@Override
+public void addTextChangeListener(TextChangeListener listener) {
+	if (listener == null) error(SWT.ERROR_NULL_ARGUMENT);
+	StyledTextListener typedListener = new StyledTextListener(listener);
+	textListeners.add(typedListener);
+}
+@Override
+public void removeTextChangeListener(TextChangeListener listener) {
+	if (listener == null) error(SWT.ERROR_NULL_ARGUMENT);
+	for (int i = 0; i < textListeners.size(); i++) {
+		TypedListener typedListener = textListeners.get(i);
+		if (typedListener.getEventListener() == listener) {
+			textListeners.remove(i);
+			break;
+		}
+	}
+}
+static int charCount(Node node) {
+	return node == null ? 0 : node.charCount;
+}
+static int lineCount(Node node) {
+	return node == null ? 0 : node.lineCount;
+}
+/**
+ * Returns the number of line delimiters in the chunk that end at or before
+ * the given offset of the chunk.
+ */
+static int lineCount(Node node, int offset) {
+	int[] lineEnds = node.lineEnds;
+	int low = 0, high = lineEnds.length;
+	while (low < high) {
+		int mid = (low + high) >>> 1;
+		if (lineEnds[mid] <= offset) {
+			low = mid + 1;
+		} else {
+			high = mid;
+		}
+	}
+	return low;
+}
+/**
+ * Returns the number of lines in the text.
+ */
+static int lineCount(String text) {
+	int lineCount = 0;
+	int length = text.length();
+	for (int i = 0; i < length; i++) {
+		char ch = text.charAt(i);
+		if (ch == SWT.CR) {
+			if (i + 1 < length && text.charAt(i + 1) == SWT.LF) {
+				i++;
+			}
+			lineCount++;
+		} else if (ch == SWT.LF) {
+			lineCount++;
+		}
+	}
+	return lineCount;
+}
+Node merge(Node first, Node second) {
+	if (first == null) return second;
+	if (second == null) return first;
+	if (first.priority > second.priority) {
+		first.right = merge(first.right, second);
+		first.update();
+		return first;
+	}
+	second.left = merge(first, second.left);
+	second.update();
+	return second;
+}
+/**
+ * Splits the tree into the chunks that end before the offset and the
+ * remaining chunks.
+ */
+Node[] splitBefore(Node node, int offset) {
+	if (node == null) return new Node[2];
+	int end = charCount(node.left) + node.text.length();
+	if (end < offset) {
+		Node[] parts = splitBefore(node.right, offset - end);
+		node.right = parts[0];
+		node.update();
+		parts[0] = node;
+		return parts;
+	}
+	Node[] parts = splitBefore(node.left, offset);
+	node.left = parts[1];
+	node.update();
+	parts[1] = node;
+	return parts;
+}
+/**
+ * Splits the tree into the chunks that start at or before the offset and
+ * the remaining chunks.
+ */
+Node[] splitAfter(Node node, int offset) {
+	if (node == null) return new Node[2];
+	int start = charCount(node.left);
+	if (start <= offset) {
+		int end = start + node.text.length();
+		Node[] parts = splitAfter(node.right, offset - end);
+		node.right = parts[0];
+		node.update();
+		parts[0] = node;
+		return parts;
+	}
+	Node[] parts = splitAfter(node.left, offset);
+	node.left = parts[1];
+	node.update();
+	parts[1] = node;
+	return parts;
+}
+/**
+ * Returns a tree holding the text in chunks of at most <code>CHUNK_SIZE</code>
+ * characters, plus one when a chunk would end between \r and \n.
+ */
+Node build(String text) {
+	int length = text.length();
+	if (length == 0) return null;
+	int chunkCount = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	int chunkSize = (length + chunkCount - 1) / chunkCount;
+	Node node = null;
+	int start = 0;
+	while (start < length) {
+		int end = Math.min(start + chunkSize, length);
+		if (end < length && text.charAt(end - 1) == SWT.CR && text.charAt(end) == SWT.LF) end++;
+		node = merge(node, new Node(text.substring(start, end), random.nextInt()));
+		start = end;
+	}
+	return node;
+}
+void appendText(Node node, int start, int end, StringBuilder buffer) {
+	if (node == null || start >= end) return;
+	int leftCount = charCount(node.left);
+	if (start < leftCount) appendText(node.left, start, Math.min(end, leftCount), buffer);
+	int length = node.text.length();
+	int chunkStart = Math.max(start - leftCount, 0), chunkEnd = Math.min(end - leftCount, length);
+	if (chunkStart < chunkEnd) buffer.append(node.text, chunkStart, chunkEnd);
+	int rightStart = leftCount + length;
+	if (end > rightStart) appendText(node.right, Math.max(start - rightStart, 0), end - rightStart, buffer);
+}
+char charAt(int offset) {
+	Node node = root;
+	while (true) {
+		int leftCount = charCount(node.left);
+		if (offset < leftCount) {
+			node = node.left;
+			continue;
+		}
+		offset -= leftCount;
+		int length = node.text.length();
+		if (offset < length) return node.text.charAt(offset);
+		offset -= length;
+		node = node.right;
+	}
+}
+/**
+ * Returns whether or not the given character is a line delimiter.  Both CR and LF
+ * are valid line delimiters.
+ *
+ * @param ch the character to test
+ * @return true if ch is a delimiter, false otherwise
+ */
+boolean isDelimiter(char ch) {
+	if (ch == SWT.CR) return true;
+	if (ch == SWT.LF) return true;
+	return false;
+}
+private boolean isInsideCRLF(int pos) {
+	if (pos == 0) return false;
+	if (pos == getCharCount()) return false;
+	return charAt(pos - 1) == SWT.CR && charAt(pos) == SWT.LF;
+}
+/**
+ * Validates the replace operation.  RopeContent will not allow
+ * line delimiters to be split or partially deleted.
+ *
+ * @param start	start offset of text to replace
+ * @param replaceLength start offset of text to replace
+ */
+private void validateReplace(int start, int replaceLength) {
+	if (replaceLength == 0) {
+		// inserting text, see if the \r\n line delimiter is being split
+		if (isInsideCRLF(start)) {
+			String message = " [0: start=" + start + " len=" + replaceLength + "]";
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, message);
+		}
+	} else {
+		// deleting text, see if part of a \r\n line delimiter is being deleted
+		if (isInsideCRLF(start)) {
+			String message = " [1: start=" + start + " len=" + replaceLength + "]";
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, message);
+		}
+
+		if (isInsideCRLF(start + replaceLength)) {
+			String message = " [2: start=" + start + " len=" + replaceLength + "]";
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, message);
+		}
+	}
+}
+@Override
+public String getLine(int index) {
+	int lineCount = getLineCount();
+	if ((index >= lineCount) || (index < 0)) error(SWT.ERROR_INVALID_ARGUMENT);
+	int start = getOffsetAtLine(index);
+	int end = index + 1 < lineCount ? getOffsetAtLine(index + 1) : getCharCount();
+	while (end > start && isDelimiter(charAt(end - 1))) end--;
+	return getTextRange(start, end - start);
+}
+/**
+ * Returns the line delimiter that should be used by the StyledText
+ * widget when inserting new lines.  This delimiter may be different than the
+ * delimiter that is used by the <code>StyledTextContent</code> interface.
+ *
+ * @return the platform line delimiter as specified in the line.separator
+ * 	system property.
+ */
+@Override
+public String getLineDelimiter() {
+	return LineDelimiter;
+}
+@Override
+public int getLineCount() {
+	return lineCount(root) + 1;
+}
+@Override
+public int getLineAtOffset(int charPosition){
+	int charCount = getCharCount();
+	if ((charPosition > charCount) || (charPosition < 0)) {
+		SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, ". charPosition=" + charPosition + " charCount=" + charCount);
+	}
+	Node node = root;
+	int offset = charPosition, line = 0;
+	while (node != null) {
+		int leftCount = charCount(node.left);
+		if (offset < leftCount) {
+			node = node.left;
+			continue;
+		}
+		line += lineCount(node.left);
+		offset -= leftCount;
+		int length = node.text.length();
+		if (offset <= length) return line + lineCount(node, offset);
+		line += node.lineEnds.length;
+		offset -= length;
+		node = node.right;
+	}
+	return line;
+}
+@Override
+public int getOffsetAtLine(int lineIndex) {
+	if (lineIndex == 0) return 0;
+	if ((lineIndex >= getLineCount()) || (lineIndex < 0)) error(SWT.ERROR_INVALID_ARGUMENT);
+	Node node = root;
+	int remaining = lineIndex, offset = 0;
+	while (true) {
+		int leftLines = lineCount(node.left);
+		if (remaining <= leftLines) {
+			node = node.left;
+			continue;
+		}
+		remaining -= leftLines;
+		offset += charCount(node.left);
+		int[] lineEnds = node.lineEnds;
+		if (remaining <= lineEnds.length) return offset + lineEnds[remaining - 1];
+		remaining -= lineEnds.length;
+		offset += node.text.length();
+		node = node.right;
+	}
+}
+@Override
+public int getCharCount() {
+	return charCount(root);
+}
+@Override
+public String getTextRange(int start, int length) {
+	if (length == 0) return "";
+	Node node = root;
+	int offset = start;
+	while (node != null) {
+		int leftCount = charCount(node.left);
+		if (offset < leftCount) {
+			node = node.left;
+			continue;
+		}
+		offset -= leftCount;
+		int chunkLength = node.text.length();
+		if (offset < chunkLength) {
+			if (offset + length <= chunkLength) return node.text.substring(offset, offset + length);
+			break;
+		}
+		offset -= chunkLength;
+		node = node.right;
+	}
+	StringBuilder buffer = new StringBuilder(length);
+	appendText(root, start, start + length, buffer);
+	return buffer.toString();
+}
+/**
+ * Replace the text with "newText" starting at position "start"
+ * for a length of "replaceLength".  Sends a TextChanging event
+ * before the change and a TextChanged event after it.
+ * <p>
+ *
+ * @param start offset of first character to replace
+ * @param replaceLength number of characters to replace. Use 0 to insert text
+ * @param newText new text to replace the text at the given offset.
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT when either the start or the end of the replace range is inside a
+ * 		\r\n line delimiter.</li>
+ *    <li>ERROR_INVALID_ARGUMENT when the range is outside of the text</li>
+ *    <li>ERROR_NULL_ARGUMENT when newText is null</li>
+ * </ul>
+ */
+@Override
+public void replaceTextRange(int start, int replaceLength, String newText){
+	if (newText == null) error(SWT.ERROR_NULL_ARGUMENT);
+	int charCount = getCharCount();
+	int end = start + replaceLength;
+	if (start < 0 || replaceLength < 0 || end > charCount) error(SWT.ERROR_INVALID_ARGUMENT);
+	validateReplace(start, replaceLength);
+
+	/*
+	* A \r before the range and a \n after it become one delimiter, which
+	* removes a line that the line counts of the change do not show.  Add
+	* such joins to the replaced lines so that the event reflects the actual
+	* change in the number of lines.
+	*/
+	char before = start > 0 ? charAt(start - 1) : 0;
+	char after = end < charCount ? charAt(end) : 0;
+	int newTextLength = newText.length(), joinCount = 0;
+	if (newTextLength == 0) {
+		if (before == SWT.CR && after == SWT.LF) joinCount++;
+	} else {
+		if (before == SWT.CR && newText.charAt(0) == SWT.LF) joinCount++;
+		if (newText.charAt(newTextLength - 1) == SWT.CR && after == SWT.LF) joinCount++;
+	}
+	int newLineCount = lineCount(newText);
+	int replaceLineCount = getLineAtOffset(end) - getLineAtOffset(start);
+
+	// inform listeners
+	StyledTextEvent event = new StyledTextEvent(this);
+	event.type = ST.TextChanging;
+	event.start = start;
+	event.replaceLineCount = replaceLineCount + Math.max(joinCount - newLineCount, 0);
+	event.text = newText;
+	event.newLineCount = Math.max(newLineCount - joinCount, 0);
+	event.replaceCharCount = replaceLength;
+	event.newCharCount = newTextLength;
+	sendTextEvent(event);
+
+	/*
+	* Take out the chunks that overlap the range together with the chunks
+	* next to it, so that small chunks are absorbed by later edits, and put
+	* back the rebuilt text.
+	*/
+	Node[] parts = splitBefore(root, start);
+	Node head = parts[0];
+	parts = splitAfter(parts[1], end - charCount(head));
+	Node middle = parts[0], tail = parts[1];
+	String text = newText;
+	if (middle != null) {
+		int middleStart = charCount(head), middleEnd = middleStart + middle.charCount;
+		Node first = middle, last = middle;
+		while (first.left != null) first = first.left;
+		while (last.right != null) last = last.right;
+		String lastText = last.text;
+		text = first.text.substring(0, start - middleStart) + newText + lastText.substring(lastText.length() - (middleEnd - end));
+	}
+	root = merge(merge(head, build(text)), tail);
+
+	// inform listeners again that a change has occurred
+	event = new StyledTextEvent(this);
+	event.type = ST.TextChanged;
+	sendTextEvent(event);
+}
+/**
+ * Sends the text listeners the TextChanged event.
+ */
+void sendTextEvent(StyledTextEvent event) {
+	for (StyledTextListener textListener : textListeners) {
+		textListener.handleEvent(event);
+	}
+}
+/**
+ * Sets the content to text, divided into new chunks.
+ * <p>
+ *
+ * @param text the text
+ */
+@Override
+public void setText (String text){
+	root = build(text);
+	StyledTextEvent event = new StyledTextEvent(this);
+	event.type = ST.TextSet;
+	event.text = "";
+	sendTextEvent(event);
+}
+void error (int code) {
+	SWT.error(code);
+}
+}
@@ -3874,13 +3874,9 @@ public int getLinePixel(int lineIndex) {
 		return topIndexY + topMargin;
 	int height = topIndexY;
 	if (lineIndex > topIndex) {
-		for (int i = topIndex; i < lineIndex; i++) {
-			height += renderer.getLineHeight(i);
-		}
+		height += renderer.getLinesHeight(topIndex, lineIndex);
 	} else {
-		for (int i = topIndex - 1; i >= lineIndex; i--) {
-			height -= renderer.getLineHeight(i);
-		}
+		height -= renderer.getLinesHeight(lineIndex, topIndex);
 	}
 	return height + topMargin;
 }
@@ -3905,20 +3901,7 @@ public int getLineIndex(int y) {
 		return lineIndex;
 	}
 	if (y == topIndexY) return topIndex;
-	int line = topIndex;
-	if (y < topIndexY) {
-		while (y < topIndexY && line > 0) {
-			y += renderer.getLineHeight(--line);
-		}
-	} else {
-		int lineCount = content.getLineCount();
-		int lineHeight = renderer.getLineHeight(line);
-		while (y - lineHeight >= topIndexY && line < lineCount - 1) {
-			y -= lineHeight;
-			lineHeight = renderer.getLineHeight(++line);
-		}
-	}
-	return line;
+	return renderer.getLineIndex(topIndex, y - topIndexY);
 }
 /**
  * Returns the tab stops of the line at the given <code>index</code>.
@@ -5026,10 +5009,7 @@ int getVerticalIncrement() {
 int getVerticalScrollOffset() {
 	if (verticalScrollOffset == -1) {
 		renderer.calculate(0, topIndex);
-		int height = 0;
-		for (int i = 0; i < topIndex; i++) {
-			height += renderer.getCachedLineHeight(i);
-		}
+		int height = renderer.getCachedLinesHeight(0, topIndex);
 		height -= topIndexY;
 		verticalScrollOffset = height;
 	}
@@ -5392,6 +5372,9 @@ void insertBlockSelectionText(char key, int action) {
 }
 /**
  * Creates content change listeners and set the default content model.
+ * The <code>org.eclipse.swt.custom.StyledText.ropeContent</code> system
+ * property selects a content model that edits large documents in
+ * logarithmic time.
  */
 void installDefaultContent() {
 	textChangeListener = new TextChangeListener() {
@@ -5408,7 +5391,8 @@ void installDefaultContent() {
 			handleTextSet(event);
 		}
 	};
-	content = new DefaultContent();
+	boolean ropeContent = Boolean.getBoolean("org.eclipse.swt.custom.StyledText.ropeContent"); //$NON-NLS-1$
+	content = ropeContent ? new RopeContent() : new DefaultContent();
 	content.addTextChangeListener(textChangeListener);
 }
 /**
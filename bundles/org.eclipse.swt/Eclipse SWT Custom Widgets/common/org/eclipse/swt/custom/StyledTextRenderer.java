@@ -44,11 +44,14 @@ class StyledTextRenderer {
 	int tabWidth;
 	int ascent, descent;
 	int averageCharWidth;
+	float charWidth;	// advance of a character of a fixed pitch font
 	int tabLength;	//tab length in spaces
 
 	/* Line data */
 	int topIndex = -1;
-	TextLayout[] layouts;
+	LinkedHashMap<Integer, TextLayout> layouts;	// by line, least recently used first
+	Set<TextLayout> cachedLayouts;
+	int layoutCacheHits, layoutCacheMisses;
 	int lineCount;
 	LineSizeInfo[] lineSizes;
 	LineInfo[] lines;
@@ -57,6 +60,10 @@ class StyledTextRenderer {
 	float averageLineHeight;
 	int linesInAverageLineHeight;
 	boolean idleRunning;
+	int idleLine;
+	int[] heightTree;	// Fenwick tree of the computed line heights
+	int[] unknownTree;	// Fenwick tree of the lines without a computed height
+	int heightTreeValid;	// lines at the start of the trees that are up to date
 
 	/* Bullet */
 	Bullet[] bullets;
@@ -78,6 +85,9 @@ class StyledTextRenderer {
 	final static int GROW = 32;
 	final static int IDLE_TIME = 50;
 	final static int CACHE_SIZE = 300;
+	final static int LAYOUT_CACHE_SIZE = Integer.getInteger("org.eclipse.swt.custom.StyledText.layoutCacheSize", 0); //$NON-NLS-1$
+	final static int LAYOUT_CACHE_PAGES = 8;	// client areas worth of layouts kept when the size is not set
+	final static int MIN_LAYOUT_CACHE_SIZE = 64;
 
 	final static int BACKGROUND = 1 << 0;
 	final static int ALIGNMENT = 1 << 1;
@@ -303,12 +313,20 @@ void calculate(int startLine, int lineCount) {
 	for (int i = startLine; i < endLine; i++) {
 		LineSizeInfo line = getLineSize(i);
 		if (line.needsRecalculateSize()) {
-			TextLayout layout = getTextLayout(i);
-			Rectangle rect = layout.getBounds();
-			line.width = rect.width + hTrim;
-			line.height = rect.height;
+			int width = estimateWidth(i);
+			if (width != -1) {
+				line.width = width + hTrim;
+				setLineHeight(i, line, getLineHeight() + styledText.lineSpacing);
+				// a cached layout of the line may predate the reset of its size and is refreshed when used
+				disposeCachedLayout(i);
+			} else {
+				TextLayout layout = getTextLayout(i);
+				Rectangle rect = layout.getBounds();
+				line.width = rect.width + hTrim;
+				setLineHeight(i, line, rect.height);
+				disposeTextLayout(layout);
+			}
 			averageLineHeight += (line.height - Math.round(averageLineHeight)) / ++linesInAverageLineHeight;
-			disposeTextLayout(layout);
 		}
 		if (line.width > maxWidth) {
 			maxWidth = line.width;
@@ -322,6 +340,198 @@ LineSizeInfo getLineSize(int i) {
 	}
 	return lineSizes[i];
 }
+/**
+ * Returns the width of the given line computed from the advance of the fixed
+ * pitch font, without measuring the line with a <code>TextLayout</code>.
+ * Returns -1 when the line has to be measured: it is styled, indented, has
+ * segments, tab stops or a bullet, contains characters that may not have the
+ * advance of the font, or wraps.  In word wrap mode the width of a line that
+ * does not wrap is the wrap width.
+ */
+int estimateWidth(int lineIndex) {
+	if (!fixedPitch || charWidth <= 0 || styledText == null) return -1;
+	if (styledText.isListening(ST.LineGetStyle) || styledText.isListening(ST.LineGetSegments) || styledText.bidiColoring) return -1;
+	if (styledText.indent != 0 || styledText.wrapIndent != 0 || styledText.tabs != null) return -1;
+	if (lineSpacingProvider != null || fixedLineMetrics != null || bullets != null) return -1;
+	if (styledText.ime != null && styledText.ime.getCompositionOffset() != -1) return -1;
+	if (lines != null && lines[lineIndex] != null && (lines[lineIndex].flags & ~(BACKGROUND | ALIGNMENT)) != 0) return -1;
+	String line = content.getLine(lineIndex);
+	int length = line.length();
+	if (styleCount > 0) {
+		int lineOffset = content.getOffsetAtLine(lineIndex);
+		int rangeCount = ranges != null ? styleCount << 1 : styleCount;
+		int index = getRangeIndex(lineOffset, -1, rangeCount);
+		if (index < rangeCount) {
+			int start = ranges != null ? ranges[index] : styles[index].start;
+			if (start < lineOffset + length) return -1;
+		}
+	}
+	int columns = 0;
+	for (int i = 0; i < length; i++) {
+		char ch = line.charAt(i);
+		if (ch == '\t') {
+			if (tabLength == 0) return -1;
+			columns = (columns / tabLength + 1) * tabLength;
+		} else if (ch < ' ' || ('~' < ch && ch < '\u00A0') || ch > '\u00FF') {
+			return -1;
+		} else {
+			columns++;
+		}
+	}
+	int width = Math.round(columns * charWidth);
+	int wrapWidth = styledText.getWrapWidth();
+	if (wrapWidth != -1) {
+		if (width > wrapWidth) return -1;
+		width = wrapWidth;
+	}
+	return width;
+}
+/**
+ * Sets the height of the given line, keeping the height trees up to date.
+ */
+void setLineHeight(int lineIndex, LineSizeInfo line, int height) {
+	if (lineIndex < heightTreeValid) {
+		boolean unknown = line.needsRecalculateHeight();
+		int delta = height - (unknown ? 0 : line.height);
+		int unknownDelta = unknown ? -1 : 0;
+		for (int i = lineIndex + 1; i < heightTree.length; i += i & -i) {
+			heightTree[i] += delta;
+			unknownTree[i] += unknownDelta;
+		}
+	}
+	line.height = height;
+}
+/**
+ * Marks the heights of the lines from the given line on as changed.  The
+ * height trees are brought up to date the next time they are used.
+ */
+void invalidateHeights(int lineIndex) {
+	heightTreeValid = Math.max(0, Math.min(heightTreeValid, lineIndex));
+	idleLine = Math.max(0, Math.min(idleLine, lineIndex));
+}
+/**
+ * Brings the height trees up to date.  The trees are Fenwick trees indexed
+ * by line, one holding the computed line heights and one counting the lines
+ * whose height has not been computed, so that the sum of the heights of any
+ * range of lines is found in O(log n).  Nodes that only cover lines before
+ * the first changed line are kept.
+ */
+void validateHeights() {
+	int count = lineCount;
+	if (heightTree == null) {
+		heightTree = new int[count + 1];
+		unknownTree = new int[count + 1];
+		heightTreeValid = 0;
+	} else if (heightTree.length != count + 1) {
+		heightTree = Arrays.copyOf(heightTree, count + 1);
+		unknownTree = Arrays.copyOf(unknownTree, count + 1);
+		heightTreeValid = Math.min(heightTreeValid, count);
+	}
+	int valid = heightTreeValid;
+	if (valid == count) return;
+	for (int i = valid + 1; i <= count; i++) {
+		LineSizeInfo line = lineSizes[i - 1];
+		boolean unknown = line == null || line.needsRecalculateHeight();
+		heightTree[i] = unknown ? 0 : line.height;
+		unknownTree[i] = unknown ? 1 : 0;
+	}
+	for (int i = valid; i > 0; i -= i & -i) {
+		int parent = i + (i & -i);
+		if (parent <= count) {
+			heightTree[parent] += heightTree[i];
+			unknownTree[parent] += unknownTree[i];
+		}
+	}
+	for (int i = valid + 1; i <= count; i++) {
+		int parent = i + (i & -i);
+		if (parent <= count) {
+			heightTree[parent] += heightTree[i];
+			unknownTree[parent] += unknownTree[i];
+		}
+	}
+	heightTreeValid = count;
+}
+/**
+ * Returns the sum of the first count values of the tree.
+ */
+static int sum(int[] tree, int count) {
+	int sum = 0;
+	for (int i = count; i > 0; i -= i & -i) {
+		sum += tree[i];
+	}
+	return sum;
+}
+/**
+ * Returns the largest count whose sum of the first count values of the tree
+ * does not exceed the given value.
+ */
+static int search(int[] tree, int value) {
+	int count = 0;
+	for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+		if (count + step < tree.length && tree[count + step] <= value) {
+			count += step;
+			value -= tree[count];
+		}
+	}
+	return count;
+}
+/**
+ * Returns the sum of the heights of the lines from startLine to endLine - 1.
+ * The lines whose height is not known are computed first.
+ */
+int getLinesHeight(int startLine, int endLine) {
+	endLine = Math.min(endLine, lineCount);
+	if (startLine >= endLine) return 0;
+	while (true) {
+		validateHeights();
+		int unknown = sum(unknownTree, startLine);
+		if (sum(unknownTree, endLine) == unknown) break;
+		getLineHeight(search(unknownTree, unknown));
+	}
+	return sum(heightTree, endLine) - sum(heightTree, startLine);
+}
+/**
+ * Returns the sum of the cached heights of the lines from startLine to
+ * endLine - 1.
+ *
+ * @see #getCachedLineHeight(int)
+ */
+int getCachedLinesHeight(int startLine, int endLine) {
+	endLine = Math.min(endLine, lineCount);
+	if (startLine >= endLine) return 0;
+	validateHeights();
+	if (sum(unknownTree, endLine) == sum(unknownTree, startLine)) {
+		return sum(heightTree, endLine) - sum(heightTree, startLine);
+	}
+	int height = 0;
+	for (int i = startLine; i < endLine; i++) {
+		height += getCachedLineHeight(i);
+	}
+	return height;
+}
+/**
+ * Returns the line at the given distance from the top of the line at
+ * topIndex.  The distance is negative for the lines above it.  The heights
+ * of the lines in between are computed.
+ */
+int getLineIndex(int topIndex, int y) {
+	while (true) {
+		validateHeights();
+		int top = sum(heightTree, topIndex);
+		int lineIndex, unknown;
+		if (y >= 0) {
+			// lines without a height count as empty, so the line found is never above the result
+			lineIndex = Math.min(search(heightTree, top + y), lineCount - 1);
+			unknown = sum(unknownTree, topIndex);
+			if (sum(unknownTree, lineIndex + 1) == unknown) return lineIndex;
+		} else {
+			lineIndex = search(heightTree, top + y);
+			unknown = sum(unknownTree, lineIndex);
+			if (sum(unknownTree, topIndex) == unknown) return lineIndex;
+		}
+		getLineHeight(search(unknownTree, unknown));
+	}
+}
 void calculateClientArea () {
 	int index = Math.max (0, styledText.getTopIndex());
 	int lineCount = content.getLineCount();
@@ -345,13 +555,14 @@ void calculateIdle () {
 			if (styledText == null) return;
 			int i;
 			long start = System.currentTimeMillis();
-			for (i = 0; i < lineCount; i++) {
+			for (i = idleLine; i < lineCount; i++) {
 				LineSizeInfo line = getLineSize(i);
 				if (line.needsRecalculateSize()) {
 					calculate(i, 1);
 					if (System.currentTimeMillis() - start > IDLE_TIME) break;
 				}
 			}
+			idleLine = i;
 			if (i < lineCount) {
 				Display display = styledText.getDisplay();
 				display.asyncExec(this);
@@ -421,13 +632,58 @@ void dispose() {
 	styledText = null;
 }
 void disposeTextLayout (TextLayout layout) {
-	if (layouts != null) {
-		for (TextLayout l : layouts) {
-			if (l == layout) return;
-		}
-	}
+	if (cachedLayouts != null && cachedLayouts.contains(layout)) return;
 	layout.dispose();
 }
+void disposeCachedLayout(int lineIndex) {
+	if (layouts == null) return;
+	TextLayout layout = layouts.remove(lineIndex);
+	if (layout != null) {
+		cachedLayouts.remove(layout);
+		layout.dispose();
+	}
+}
+/**
+ * Returns the number of times getTextLayout() returned a cached layout.
+ */
+int getLayoutCacheHits() {
+	return layoutCacheHits;
+}
+/**
+ * Returns the number of times getTextLayout() had to compute a layout.
+ */
+int getLayoutCacheMisses() {
+	return layoutCacheMisses;
+}
+/**
+ * Returns the number of layouts kept in the cache.  Unless it is set with the
+ * <code>org.eclipse.swt.custom.StyledText.layoutCacheSize</code> system
+ * property, the cache holds the layouts of a few client areas of lines, so
+ * that scrolling back and forth reuses them.  The property is clamped to
+ * MIN_LAYOUT_CACHE_SIZE, so that trimming never disposes a layout that is
+ * still in use while lines are drawn.
+ */
+int getLayoutCacheSize() {
+	if (LAYOUT_CACHE_SIZE > 0) return Math.max(MIN_LAYOUT_CACHE_SIZE, LAYOUT_CACHE_SIZE);
+	int lineHeight = getLineHeight();
+	int visibleLines = lineHeight > 0 ? styledText.clientAreaHeight / lineHeight + 1 : 0;
+	return Math.max(MIN_LAYOUT_CACHE_SIZE, LAYOUT_CACHE_PAGES * visibleLines);
+}
+/**
+ * Disposes the least recently used layouts until the cache holds at most the
+ * given number of layouts.  Must not be called while a layout returned by
+ * getTextLayout() is in use.
+ */
+void trimLayoutCache(int size) {
+	if (layouts == null) return;
+	Iterator<TextLayout> iterator = layouts.values().iterator();
+	while (layouts.size() > size && iterator.hasNext()) {
+		TextLayout layout = iterator.next();
+		iterator.remove();
+		cachedLayouts.remove(layout);
+		layout.dispose();
+	}
+}
 void drawBullet(Bullet bullet, GC gc, int paintX, int paintY, int index, int lineAscent, int lineDescent) {
 	StyleRange style = bullet.style;
 	GlyphMetrics metrics = style.metrics;
@@ -482,6 +738,7 @@ int drawLines(int startLine, int endLine, int begX, int begY, int endY, GC gc, C
 	// painting. While this doesn't sound like a good thing to do, yet
 	// still, I'd rather stay safe.
 	final boolean drawBackBeforeFore = (fixedLineMetrics != null);
+	if (styledText != null) trimLayoutCache(getLayoutCacheSize());
 
 	if (drawBackBeforeFore) {
 		// Cache drawing information
@@ -662,18 +919,17 @@ int getHeight () {
 	if (styledText.isFixedLineHeight()) {
 		return lineCount * defaultLineHeight + styledText.topMargin + styledText.bottomMargin;
 	}
-	int totalHeight = 0;
 	int width = styledText.getWrapWidth();
-	for (int i = 0; i < lineCount; i++) {
-		LineSizeInfo line = getLineSize(i);
-		int height = line.height;
-		if (line.needsRecalculateHeight()) {
-			if (width > 0) {
-				int length = content.getLine(i).length();
-				height = ((length * averageCharWidth / width) + 1) * defaultLineHeight;
-			} else {
-				height = defaultLineHeight;
-			}
+	validateHeights();
+	int totalHeight = sum(heightTree, lineCount);
+	int unknownCount = sum(unknownTree, lineCount);
+	for (int i = 0; i < unknownCount; i++) {
+		int height;
+		if (width > 0) {
+			int length = content.getLine(search(unknownTree, i)).length();
+			height = ((length * averageCharWidth / width) + 1) * defaultLineHeight;
+		} else {
+			height = defaultLineHeight;
 		}
 		totalHeight += height;
 	}
@@ -760,7 +1016,7 @@ int getLineHeight(int lineIndex, boolean exact) {
 				return Math.round(averageLineHeight);
 			}
 		} else {
-			line.height = getLineHeight() + getLineSpacing(lineIndex) + getLineVerticalIndent(lineIndex);
+			setLineHeight(lineIndex, line, getLineHeight() + getLineSpacing(lineIndex) + getLineVerticalIndent(lineIndex));
 		}
 	}
 	return line.height;
@@ -1020,12 +1276,8 @@ boolean isSameLineSpacing(int lineIndex, int newLineSpacing) {
 	if (layouts == null) {
 		return false;
 	}
-	int layoutIndex = lineIndex - topIndex;
-	if (0 <= layoutIndex && layoutIndex < layouts.length) {
-		TextLayout layout = layouts[layoutIndex];
-		return layout != null && !layout.isDisposed() && layout.getSpacing() == newLineSpacing;
-	}
-	return false;
+	TextLayout layout = layouts.get(lineIndex);
+	return layout != null && !layout.isDisposed() && layout.getSpacing() == newLineSpacing;
 }
 
 private static final class StyleEntry {
@@ -1044,21 +1296,8 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 	TextLayout layout = null;
 	if (styledText != null) {
 		int topIndex = styledText.topIndex > 0 ? styledText.topIndex - 1 : 0;
-		if (layouts == null || topIndex != this.topIndex) {
-			TextLayout[] newLayouts = new TextLayout[CACHE_SIZE];
-			if (layouts != null) {
-				for (int i = 0; i < layouts.length; i++) {
-					if (layouts[i] != null) {
-						int layoutIndex = (i + this.topIndex) - topIndex;
-						if (0 <= layoutIndex && layoutIndex < newLayouts.length) {
-							newLayouts[layoutIndex] = layouts[i];
-						} else {
-							layouts[i].dispose();
-						}
-					}
-				}
-			}
-			if (bullets != null && bulletsIndices != null && topIndex != this.topIndex) {
+		if (topIndex != this.topIndex) {
+			if (bullets != null && bulletsIndices != null) {
 				int delta = topIndex - this.topIndex;
 				if (delta > 0) {
 					if (delta < bullets.length) {
@@ -1077,22 +1316,37 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 				}
 			}
 			this.topIndex = topIndex;
-			layouts = newLayouts;
 		}
-		if (layouts != null) {
-			int layoutIndex = lineIndex - topIndex;
-			if (0 <= layoutIndex && layoutIndex < layouts.length) {
-				layout = layouts[layoutIndex];
-				if (layout != null) {
-					// Bug 520374: lineIndex can be >= linesSize.length
-					if(lineIndex < lineSizes.length && getLineSize(lineIndex).canLayout()) {
-						return layout;
-					}
-				} else {
-					layout = layouts[layoutIndex] = new TextLayout(device);
+		if (layouts == null) {
+			layouts = new LinkedHashMap<>(16, 0.75f, true);
+			cachedLayouts = Collections.newSetFromMap(new IdentityHashMap<>());
+		}
+		/*
+		* Only lines near the client area are cached, so that measuring the
+		* whole content does not evict the layouts of the visible lines.
+		*/
+		int cacheSize = getLayoutCacheSize();
+		if (Math.abs(lineIndex - topIndex) < cacheSize) {
+			layout = layouts.get(lineIndex);
+			if (layout != null) {
+				// Bug 520374: lineIndex can be >= linesSize.length
+				if(lineIndex < lineSizes.length && getLineSize(lineIndex).canLayout()) {
+					layoutCacheHits++;
+					return layout;
 				}
+			} else {
+				/*
+				* The cache is trimmed when lines are drawn.  Layouts are only
+				* disposed here when it has grown well past its size without
+				* being drawn, the layouts in use are the most recently used.
+				*/
+				if (layouts.size() >= 2 * cacheSize) trimLayoutCache(cacheSize);
+				layout = new TextLayout(device);
+				layouts.put(lineIndex, layout);
+				cachedLayouts.add(layout);
 			}
 		}
+		layoutCacheMisses++;
 	}
 	if (layout == null) layout = new TextLayout(device);
 	String line = content.getLine(lineIndex);
@@ -1358,8 +1612,8 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 			ascent = metrics.getAscent() + metrics.getLeading();
 			descent = metrics.getDescent();
 			if (layouts != null) {
-				for (TextLayout l : layouts) {
-					if (l != null && l != layout) {
+				for (TextLayout l : layouts.values()) {
+					if (l != layout) {
 						l.setAscent(ascent);
 						l.setDescent(descent);
 					}
@@ -1391,10 +1645,11 @@ int getWidth() {
 }
 void reset() {
 	if (layouts != null) {
-		for (TextLayout layout : layouts) {
-			if (layout != null) layout.dispose();
+		for (TextLayout layout : layouts.values()) {
+			layout.dispose();
 		}
 		layouts = null;
+		cachedLayouts = null;
 	}
 	topIndex = -1;
 	stylesSetCount = styleCount = lineCount = 0;
@@ -1403,6 +1658,8 @@ void reset() {
 	stylesSet = null;
 	lines = null;
 	lineSizes = null;
+	heightTree = unknownTree = null;
+	heightTreeValid = idleLine = 0;
 	bullets = null;
 	bulletsIndices = null;
 	redrawLines = null;
@@ -1424,6 +1681,7 @@ void reset(Set<Integer> lines) {
 		if (line >= 0 || line < lineCount) {
 			resetLineCount++;
 			getLineSize(line.intValue()).resetSize();
+			invalidateHeights(line.intValue());
 		}
 	}
 	if (linesInAverageLineHeight > resetLineCount) {
@@ -1498,6 +1756,8 @@ void setFont(Font font, int tabs) {
 	}
 	layout.setText(tabBuffer.toString());
 	tabWidth = layout.getBounds().width;
+	layout.setText("W".repeat(100)); //$NON-NLS-1$
+	charWidth = layout.getBounds().width / 100f;
 	layout.dispose();
 	if (styledText != null) {
 		GC gc = new GC(styledText);
@@ -1576,7 +1836,7 @@ void setLineVerticalIndent(int lineIndex, int verticalLineIndent) {
 	lines[lineIndex].verticalIndent = verticalLineIndent;
 	LineSizeInfo info = getLineSize(lineIndex);
 	if (!info.needsRecalculateHeight()) {
-		info.height += delta;
+		setLineHeight(lineIndex, info, info.height + delta);
 	}
 }
 void setLineWrapIndent(int startLine, int count, int wrapIndent) {
@@ -1793,6 +2053,7 @@ void textChanging(TextChangingEvent event) {
 	updateRanges(start, replaceCharCount, newCharCount);
 
 	int startLine = content.getLineAtOffset(start);
+	invalidateHeights(startLine);
 	if (replaceCharCount == content.getCharCount()) lines = null;
 	if (replaceLineCount == lineCount) {
 		lineCount = newLineCount;
@@ -1828,51 +2089,47 @@ void textChanging(TextChangingEvent event) {
 			lineSizes[i] = null;
 		}
 		if (layouts != null) {
-			int layoutStartLine = startLine - topIndex;
-			int layoutEndLine = layoutStartLine + replaceLineCount + 1;
-			for (int i = layoutStartLine; i < layoutEndLine; i++) {
-				if (0 <= i && i < layouts.length) {
-					if (layouts[i] != null) layouts[i].dispose();
-					layouts[i] = null;
-					if (bullets != null && bulletsIndices != null) bullets[i] = null;
+			LinkedHashMap<Integer, TextLayout> newLayouts = new LinkedHashMap<>(16, 0.75f, true);
+			for (Map.Entry<Integer, TextLayout> entry : layouts.entrySet()) {
+				int lineIndex = entry.getKey();
+				TextLayout layout = entry.getValue();
+				if (lineIndex < startLine) {
+					newLayouts.put(lineIndex, layout);
+				} else if (lineIndex <= startLine + replaceLineCount) {
+					cachedLayouts.remove(layout);
+					layout.dispose();
+				} else {
+					newLayouts.put(lineIndex + delta, layout);
 				}
 			}
+			layouts = newLayouts;
+		}
+		if (bullets != null && bulletsIndices != null) {
+			int bulletStartLine = startLine - topIndex;
+			int bulletEndLine = bulletStartLine + replaceLineCount + 1;
+			for (int i = bulletStartLine; i < bulletEndLine; i++) {
+				if (0 <= i && i < bullets.length) bullets[i] = null;
+			}
 			if (delta > 0) {
-				for (int i = layouts.length - 1; i >= layoutEndLine; i--) {
-					if (0 <= i && i < layouts.length) {
+				for (int i = bullets.length - 1; i >= bulletEndLine; i--) {
+					if (0 <= i && i < bullets.length) {
 						endIndex = i + delta;
-						if (0 <= endIndex && endIndex < layouts.length) {
-							layouts[endIndex] = layouts[i];
-							layouts[i] = null;
-							if (bullets != null && bulletsIndices != null) {
-								bullets[endIndex] = bullets[i];
-								bulletsIndices[endIndex] = bulletsIndices[i];
-								bullets[i] = null;
-							}
-						} else {
-							if (layouts[i] != null) layouts[i].dispose();
-							layouts[i] = null;
-							if (bullets != null && bulletsIndices != null) bullets[i] = null;
+						if (0 <= endIndex && endIndex < bullets.length) {
+							bullets[endIndex] = bullets[i];
+							bulletsIndices[endIndex] = bulletsIndices[i];
 						}
+						bullets[i] = null;
 					}
 				}
 			} else if (delta < 0) {
-				for (int i = layoutEndLine; i < layouts.length; i++) {
-					if (0 <= i && i < layouts.length) {
+				for (int i = bulletEndLine; i < bullets.length; i++) {
+					if (0 <= i && i < bullets.length) {
 						endIndex = i + delta;
-						if (0 <= endIndex && endIndex < layouts.length) {
-							layouts[endIndex] = layouts[i];
-							layouts[i] = null;
-							if (bullets != null && bulletsIndices != null) {
-								bullets[endIndex] = bullets[i];
-								bulletsIndices[endIndex] = bulletsIndices[i];
-								bullets[i] = null;
-							}
-						} else {
-							if (layouts[i] != null) layouts[i].dispose();
-							layouts[i] = null;
-							if (bullets != null && bulletsIndices != null) bullets[i] = null;
+						if (0 <= endIndex && endIndex < bullets.length) {
+							bullets[endIndex] = bullets[i];
+							bulletsIndices[endIndex] = bulletsIndices[i];
 						}
+						bullets[i] = null;
 					}
 				}
 			}
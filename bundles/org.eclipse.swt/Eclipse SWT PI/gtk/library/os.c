@@ -5374,6 +5374,20 @@ JNIEXPORT void JNICALL GTK_NATIVE(gtk_1list_1store_1remove)
 }
 #endif
 
+#ifndef NO_gtk_1list_1store_1reorder
+JNIEXPORT void JNICALL GTK_NATIVE(gtk_1list_1store_1reorder)
+	(JNIEnv *env, jclass that, jlong arg0, jintArray arg1)
+{
+	jint *lparg1=NULL;
+	GTK_NATIVE_ENTER(env, that, gtk_1list_1store_1reorder_FUNC);
+	if (arg1) if ((lparg1 = (*env)->GetIntArrayElements(env, arg1, NULL)) == NULL) goto fail;
+	gtk_list_store_reorder((GtkListStore *)arg0, (gint *)lparg1);
+fail:
+	if (arg1 && lparg1) (*env)->ReleaseIntArrayElements(env, arg1, lparg1, JNI_ABORT);
+	GTK_NATIVE_EXIT(env, that, gtk_1list_1store_1reorder_FUNC);
+}
+#endif
+
 #ifndef NO_gtk_1list_1store_1set__JJIII
 JNIEXPORT void JNICALL GTK_NATIVE(gtk_1list_1store_1set__JJIII)
 	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jint arg2, jint arg3, jint arg4)
@@ -7974,6 +7988,16 @@ JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1selection_1select_1iter)
 }
 #endif
 
+#ifndef NO_gtk_1tree_1selection_1select_1range
+JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1selection_1select_1range)
+	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlong arg2)
+{
+	GTK_NATIVE_ENTER(env, that, gtk_1tree_1selection_1select_1range_FUNC);
+	gtk_tree_selection_select_range((GtkTreeSelection *)arg0, (GtkTreePath *)arg1, (GtkTreePath *)arg2);
+	GTK_NATIVE_EXIT(env, that, gtk_1tree_1selection_1select_1range_FUNC);
+}
+#endif
+
 #ifndef NO_gtk_1tree_1selection_1set_1mode
 JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1selection_1set_1mode)
 	(JNIEnv *env, jclass that, jlong arg0, jint arg1)
@@ -8024,6 +8048,16 @@ JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1selection_1unselect_1path)
 }
 #endif
 
+#ifndef NO_gtk_1tree_1selection_1unselect_1range
+JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1selection_1unselect_1range)
+	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlong arg2)
+{
+	GTK_NATIVE_ENTER(env, that, gtk_1tree_1selection_1unselect_1range_FUNC);
+	gtk_tree_selection_unselect_range((GtkTreeSelection *)arg0, (GtkTreePath *)arg1, (GtkTreePath *)arg2);
+	GTK_NATIVE_EXIT(env, that, gtk_1tree_1selection_1unselect_1range_FUNC);
+}
+#endif
+
 #ifndef NO_gtk_1tree_1store_1append
 JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1store_1append)
 	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlong arg2)
@@ -8100,6 +8134,20 @@ JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1store_1remove)
 }
 #endif
 
+#ifndef NO_gtk_1tree_1store_1reorder
+JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1store_1reorder)
+	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jintArray arg2)
+{
+	jint *lparg2=NULL;
+	GTK_NATIVE_ENTER(env, that, gtk_1tree_1store_1reorder_FUNC);
+	if (arg2) if ((lparg2 = (*env)->GetIntArrayElements(env, arg2, NULL)) == NULL) goto fail;
+	gtk_tree_store_reorder((GtkTreeStore *)arg0, (GtkTreeIter *)arg1, (gint *)lparg2);
+fail:
+	if (arg2 && lparg2) (*env)->ReleaseIntArrayElements(env, arg2, lparg2, JNI_ABORT);
+	GTK_NATIVE_EXIT(env, that, gtk_1tree_1store_1reorder_FUNC);
+}
+#endif
+
 #ifndef NO_gtk_1tree_1store_1set__JJIII
 JNIEXPORT void JNICALL GTK_NATIVE(gtk_1tree_1store_1set__JJIII)
 	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jint arg2, jint arg3, jint arg4)
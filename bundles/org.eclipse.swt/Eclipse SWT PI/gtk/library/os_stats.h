@@ -427,6 +427,7 @@ typedef enum {
 	gtk_1list_1store_1insert_FUNC,
 	gtk_1list_1store_1newv_FUNC,
 	gtk_1list_1store_1remove_FUNC,
+	gtk_1list_1store_1reorder_FUNC,
 	gtk_1list_1store_1set__JJIII_FUNC,
 	gtk_1list_1store_1set__JJIJI_FUNC,
 	gtk_1list_1store_1set__JJILorg_eclipse_swt_internal_gtk_GdkRGBA_2I_FUNC,
@@ -639,11 +640,13 @@ typedef enum {
 	gtk_1tree_1selection_1path_1is_1selected_FUNC,
 	gtk_1tree_1selection_1select_1all_FUNC,
 	gtk_1tree_1selection_1select_1iter_FUNC,
+	gtk_1tree_1selection_1select_1range_FUNC,
 	gtk_1tree_1selection_1set_1mode_FUNC,
 	gtk_1tree_1selection_1set_1select_1function_FUNC,
 	gtk_1tree_1selection_1unselect_1all_FUNC,
 	gtk_1tree_1selection_1unselect_1iter_FUNC,
 	gtk_1tree_1selection_1unselect_1path_FUNC,
+	gtk_1tree_1selection_1unselect_1range_FUNC,
 	gtk_1tree_1store_1append_FUNC,
 	gtk_1tree_1store_1clear_FUNC,
 	gtk_1tree_1store_1insert_FUNC,
@@ -651,6 +654,7 @@ typedef enum {
 	gtk_1tree_1store_1newv_FUNC,
 	gtk_1tree_1store_1prepend_FUNC,
 	gtk_1tree_1store_1remove_FUNC,
+	gtk_1tree_1store_1reorder_FUNC,
 	gtk_1tree_1store_1set__JJIII_FUNC,
 	gtk_1tree_1store_1set__JJIJI_FUNC,
 	gtk_1tree_1store_1set__JJILorg_eclipse_swt_internal_gtk_GdkRGBA_2I_FUNC,
@@ -23,4 +23,15 @@ public class DeviceData {
 	public boolean tracking;
 	public Error [] errors;
 	public Object [] objects;
+
+	/**
+	 * The maximum time in milliseconds that the user-interface thread
+	 * of a display spends running runnables queued by <code>asyncExec</code>
+	 * before it returns to the event loop. The default value of zero
+	 * runs one runnable per iteration of the event loop.
+	 *
+	 * @see org.eclipse.swt.widgets.Display#setAsyncExecTimeBudget(int)
+	 * @since 3.129
+	 */
+	public int asyncExecTimeBudget;
 }
@@ -135,9 +135,10 @@ public class Display extends Device implements Executor {
 	TouchSource[] touchSources;
 
 	/* Sync/Async Widget Communication */
-	Synchronizer synchronizer;
+	volatile Synchronizer synchronizer;
 	Consumer<RuntimeException> runtimeExceptionHandler = DefaultExceptionHandler.RUNTIME_EXCEPTION_HANDLER;
 	Consumer<Error> errorHandler = DefaultExceptionHandler.RUNTIME_ERROR_HANDLER;
+	int asyncExecTimeBudget;
 	Thread thread;
 	boolean allowTimers = true, runAsyncMessages = true;
 
@@ -611,10 +612,50 @@ void addWidget (NSObject view, Widget widget) {
  * @see #syncExec
  */
 public void asyncExec (Runnable runnable) {
-	synchronized (Device.class) {
-		if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
-		synchronizer.asyncExec (runnable);
-	}
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	synchronizer.asyncExec (runnable);
+}
+
+/**
+ * Causes the <code>run()</code> method of the runnable to
+ * be invoked by the user-interface thread at the next
+ * reasonable opportunity, like <code>asyncExec</code>. If a
+ * runnable that was queued with the same key has not been run
+ * yet, it is replaced by the given runnable, which keeps the
+ * queue position of the replaced one. This allows frequent
+ * updates of the same state, for example the text of a label,
+ * to be run once per iteration of the event loop instead of
+ * once per update.
+ * <p>
+ * Keys are compared with <code>equals()</code>.
+ * </p>
+ * <p>
+ * Note that at the time the runnable is invoked, widgets
+ * that have the receiver as their display may have been
+ * disposed. Therefore, it is necessary to check for this
+ * case inside the runnable before accessing the widget.
+ * </p>
+ *
+ * @param key the key that identifies the runnables to coalesce
+ * @param runnable code to run on the user-interface thread
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the key or the runnable is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec
+ *
+ * @since 3.129
+ */
+public void asyncExecCoalesced (Object key, Runnable runnable) {
+	if (key == null || runnable == null) error (SWT.ERROR_NULL_ARGUMENT);
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	synchronizer.asyncExecCoalesced (key, runnable);
 }
 
 /**
@@ -944,6 +985,7 @@ protected void create (DeviceData data) {
 	checkSubclass ();
 	checkDisplay (thread = Thread.currentThread (), false);
 	createDisplay (data);
+	if (data != null) asyncExecTimeBudget = Math.max (0, data.asyncExecTimeBudget);
 	register (this);
 	synchronizer = new Synchronizer (this);
 	if (Default == null) Default = this;
@@ -4084,6 +4126,11 @@ protected void release () {
 		}
 		taskBar = null;
 
+		/*
+		* Reject runnables from other threads before the final drain, so
+		* that every runnable that was accepted is run by the loop below.
+		*/
+		synchronizer.closeSynchronizer ();
 		for (;;) {
 			try {
 				if (!readAndDispatch ()) break;
@@ -4379,7 +4426,7 @@ void resetSelectedControlColors() {
 }
 
 boolean runAsyncMessages (boolean all) {
-	return synchronizer.runAsyncMessages (all);
+	return synchronizer.runAsyncMessages (all, asyncExecTimeBudget * 1000000L);
 }
 
 boolean runAWTInvokeLater() {
@@ -5199,6 +5246,60 @@ public final Consumer<Error> getErrorHandler () {
 	return errorHandler;
 }
 
+/**
+ * Sets the maximum time in milliseconds that the user-interface thread
+ * spends running runnables queued by <code>asyncExec</code> before it
+ * returns to the event loop. Pending input is dispatched before the next
+ * batch of runnables is run, so that a flood of runnables cannot starve
+ * the user interface.
+ * <p>
+ * The default value of zero runs one runnable per iteration of the
+ * event loop.
+ * </p>
+ *
+ * @param milliseconds the time budget in milliseconds, or zero
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the budget is negative</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec
+ * @see Synchronizer#getLastDrainTime
+ * @see DeviceData#asyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public void setAsyncExecTimeBudget (int milliseconds) {
+	checkDevice ();
+	if (milliseconds < 0) error (SWT.ERROR_INVALID_ARGUMENT);
+	asyncExecTimeBudget = milliseconds;
+}
+
+/**
+ * Returns the maximum time in milliseconds that the user-interface thread
+ * spends running runnables queued by <code>asyncExec</code> before it
+ * returns to the event loop.
+ *
+ * @return the time budget in milliseconds, or zero
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #setAsyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public int getAsyncExecTimeBudget () {
+	checkDevice ();
+	return asyncExecTimeBudget;
+}
+
 /**
  * Causes the user-interface thread to <em>sleep</em> (that is,
  * to be put in a state where it does not consume CPU cycles)
@@ -5256,11 +5357,8 @@ int sourceProc (int info) {
  * @see #asyncExec
  */
 public void syncExec (Runnable runnable) {
-	Synchronizer synchronizer;
-	synchronized (Device.class) {
-		if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
-		synchronizer = this.synchronizer;
-	}
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
 	synchronizer.syncExec (runnable);
 }
 
@@ -5311,6 +5409,53 @@ public <T, E extends Exception> T syncCall(SwtCallable<T, E> callable) throws E
 	return result.getPlain();
 }
 
+/**
+ * Calls the supplier on the user-interface thread at the next reasonable
+ * opportunity, as with {@link #asyncExec(Runnable)}, and returns a future
+ * that is completed with its result. The caller of this method continues
+ * to run in parallel and does not wait for the supplier.
+ * <p>
+ * Any exception or error that is thrown from the supplier completes the
+ * future exceptionally. It is not passed to the runtime exception handler
+ * or the error handler of the receiver. If the future is cancelled before
+ * the supplier is called, the supplier is not called. If the receiver is
+ * disposed before the supplier could be called, the future is completed
+ * exceptionally with an <code>SWTException</code> with the code
+ * <code>ERROR_DEVICE_DISPOSED</code>.
+ * </p>
+ * <p>
+ * Dependent stages of the future can be run on the user-interface thread
+ * by passing the receiver, which is an {@link Executor}, to the
+ * <code>*Async</code> methods of the future.
+ * </p>
+ * <p>
+ * Note that at the time the supplier is invoked, widgets that have the receiver
+ * as their display may have been disposed. Therefore, it is necessary to check
+ * for this case inside the supplier before accessing the widget.
+ * </p>
+ *
+ * @param supplier the code to call on the user-interface thread
+ * @return a future that is completed with the result of the supplier
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the supplier is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec(Runnable)
+ * @see #execute(Runnable)
+ * @see #syncCall(SwtCallable)
+ * @since 3.129
+ */
+public <T> CompletableFuture<T> supplyAsync (Supplier<T> supplier) {
+	if (supplier == null) error (SWT.ERROR_NULL_ARGUMENT);
+	SupplyRunnable<T> runnable = new SupplyRunnable<> (supplier);
+	asyncExec (runnable);
+	return runnable.future;
+}
+
 /**
  * Causes the <code>run()</code> method of the runnable to
  * be invoked by the user-interface thread after the specified
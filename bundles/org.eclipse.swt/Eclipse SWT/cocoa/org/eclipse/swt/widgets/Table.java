@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -78,6 +80,7 @@ public class Table extends Composite {
 	NSTextFieldCell dataCell;
 	NSButtonCell buttonCell;
 	int columnCount, itemCount, lastIndexOf, sortDirection, selectedRowIndex = -1;
+	int updateCount;
 	boolean ignoreSelect, fixScrollWidth, drawExpansion, didSelect, preventSelect, dragDetected;
 	Rectangle imageBounds;
 	double [] headerBackground, headerForeground;
@@ -205,6 +208,55 @@ public void addSelectionListener (SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) setRedraw (false);
+}
+
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	setRedraw (true);
+}
+
 TableItem _getItem (int index) {
 	if ((style & SWT.VIRTUAL) == 0) return items [index];
 	if (items [index] != null) return items [index];
@@ -2809,6 +2861,47 @@ public void setItemCount (int count) {
 	updateRowCount();
 }
 
+/**
+ * Sets the receiver's items to be the given rows of strings.
+ * All existing items are removed and one item is created for each
+ * row, with the strings of the row set as the text of the item's
+ * columns in order.  Strings that are <code>null</code> are ignored.
+ * <p>
+ * This is equivalent to removing all items, creating an item for
+ * each row and calling <code>TableItem.setText(String[])</code>,
+ * but is faster for large numbers of rows.
+ * </p>
+ *
+ * @param rows the strings of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rows array is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if a row in the rows array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see TableItem#setText(String[])
+ *
+ * @since 3.129
+ */
+public void setItems (String [][] rows) {
+	checkWidget ();
+	if (rows == null) error (SWT.ERROR_NULL_ARGUMENT);
+	for (int i=0; i<rows.length; i++) {
+		if (rows [i] == null) error (SWT.ERROR_INVALID_ARGUMENT);
+	}
+	setRedraw (false);
+	removeAll ();
+	setItemCount (rows.length);
+	for (int i=0; i<rows.length; i++) {
+		getItem (i).setText (rows [i]);
+	}
+	setRedraw (true);
+}
+
 /*public*/ void setItemHeight (int itemHeight) {
 	checkWidget ();
 	if (itemHeight < -1) error (SWT.ERROR_INVALID_ARGUMENT);
@@ -3313,6 +3406,53 @@ public void showSelection () {
 	}
 }
 
+/**
+ * Sorts the receiver's items using the given comparator.  The items
+ * are moved, not recreated, so the selection, the focus item and the
+ * attributes of each item are kept.  The sort is stable.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every item is requested before sorting.
+ * </p>
+ *
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (itemCount < 2) return;
+	TableItem [] sorted = new TableItem [itemCount];
+	for (int i=0; i<itemCount; i++) {
+		TableItem item = _getItem (i);
+		if (!checkData (item, i)) error (SWT.ERROR_WIDGET_DISPOSED);
+		sorted [i] = item;
+	}
+	boolean [] selected = new boolean [itemCount];
+	int [] selection = getSelectionIndices ();
+	for (int i=0; i<selection.length; i++) selected [selection [i]] = true;
+	int [] order = ItemSorter.sort (itemCount, (index1, index2) -> comparator.compare (sorted [index1], sorted [index2]));
+	int [] indices = new int [selection.length];
+	int selectedCount = 0;
+	for (int i=0; i<itemCount; i++) {
+		int oldIndex = order [i];
+		items [i] = sorted [oldIndex];
+		if (selected [oldIndex]) indices [selectedCount++] = i;
+	}
+	deselectAll ();
+	select (indices);
+	if (isDrawing ()) view.setNeedsDisplay (true);
+}
+
 @Override
 void selectRowIndexes_byExtendingSelection (long id, long sel, long indexes, boolean extend) {
 	if (preventSelect && !ignoreSelect) return;
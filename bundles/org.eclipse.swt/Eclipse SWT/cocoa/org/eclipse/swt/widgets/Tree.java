@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -88,6 +90,7 @@ public class Tree extends Composite {
 	int columnCount;
 	int sortDirection;
 	int selectedRowIndex = -1;
+	int updateCount;
 	boolean ignoreExpand, ignoreSelect, ignoreRedraw, reloadPending, drawExpansion, didSelect, preventSelect, dragDetected;
 	Rectangle imageBounds;
 	TreeItem insertItem;
@@ -261,6 +264,55 @@ public void addTreeListener(TreeListener listener) {
 	addTypedListener(listener, SWT.Expand, SWT.Collapse);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) setRedraw (false);
+}
+
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	setRedraw (true);
+}
+
 int calculateWidth (TreeItem[] items, int index, GC gc, boolean recurse) {
 	if (items == null) return 0;
 	int width = 0;
@@ -3573,6 +3625,64 @@ public void showSelection () {
 	}
 }
 
+/**
+ * Sorts the items of the given parent item using the given comparator,
+ * or the root items if the parent item is <code>null</code>.  The items
+ * are moved together with their child items, not recreated, so the
+ * selection, the expanded state and the attributes of each item are
+ * kept.  The child items of the sorted items are not sorted.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every sorted item is requested before sorting.
+ * </p>
+ *
+ * @param parentItem the item whose child items are sorted, or <code>null</code>
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the parent item has been disposed or is not in the receiver</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (TreeItem parentItem, Comparator<TreeItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (parentItem != null && (parentItem.isDisposed () || parentItem.parent != this)) {
+		error (SWT.ERROR_INVALID_ARGUMENT);
+	}
+	int count = parentItem != null ? parentItem.itemCount : itemCount;
+	if (count < 2) return;
+	TreeItem [] sorted = new TreeItem [count];
+	for (int i=0; i<count; i++) {
+		TreeItem item = _getItem (parentItem, i, true);
+		if (!checkData (item)) error (SWT.ERROR_WIDGET_DISPOSED);
+		sorted [i] = item;
+	}
+	Arrays.sort (sorted, comparator);
+	System.arraycopy (sorted, 0, parentItem != null ? parentItem.items : items, 0, count);
+	NSOutlineView widget = (NSOutlineView)view;
+	if (getDrawing ()) {
+		TreeItem [] selectedItems = getSelection ();
+		ignoreExpand = true;
+		if (parentItem != null) {
+			widget.reloadItem (parentItem.handle, true);
+		} else {
+			widget.reloadData ();
+		}
+		for (int i=0; i<count; i++) sorted [i].updateExpanded ();
+		ignoreExpand = false;
+		selectItems (selectedItems, true);
+	} else {
+		reloadPending = true;
+	}
+}
+
 @Override
 void updateCursorRects (boolean enabled) {
 	super.updateCursorRects (enabled);
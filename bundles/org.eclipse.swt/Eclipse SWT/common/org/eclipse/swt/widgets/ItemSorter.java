@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.function.*;
+
+/**
+ * Computes the permutation that sorts the items of a table or a tree.
+ * The indices are kept in an <code>int</code> array and merged bottom
+ * up, so no index is boxed and the sort is stable.
+ */
+class ItemSorter {
+
+/**
+ * Returns the old indices of the items in sorted order.
+ *
+ * @param count the number of items
+ * @param comparator compares the items at two old indices
+ * @return the permutation, where element i is the old index of the item at i
+ */
+static int [] sort (int count, IntBinaryOperator comparator) {
+	int [] order = new int [count], buffer = new int [count];
+	for (int i=0; i<count; i++) order [i] = i;
+	for (int width=1; width<count; width*=2) {
+		for (int low=0; low<count; low+=2*width) {
+			int middle = Math.min (low + width, count), high = Math.min (low + 2 * width, count);
+			if (middle == high || comparator.applyAsInt (order [middle - 1], order [middle]) <= 0) {
+				System.arraycopy (order, low, buffer, low, high - low);
+				continue;
+			}
+			int i = low, j = middle, k = low;
+			while (i < middle && j < high) {
+				buffer [k++] = comparator.applyAsInt (order [j], order [i]) < 0 ? order [j++] : order [i++];
+			}
+			while (i < middle) buffer [k++] = order [i++];
+			while (j < high) buffer [k++] = order [j++];
+		}
+		int [] temp = order;
+		order = buffer;
+		buffer = temp;
+	}
+	return order;
+}
+
+}
@@ -22,9 +22,11 @@ package org.eclipse.swt.widgets;
  */
 
 class RunnableLock {
-	Runnable runnable;
+	volatile Runnable runnable;
+	Object key;
 	Thread thread;
-	Throwable throwable;
+	volatile Throwable throwable;
+	volatile boolean released;
 
 RunnableLock (Runnable runnable) {
 	this.runnable = runnable;
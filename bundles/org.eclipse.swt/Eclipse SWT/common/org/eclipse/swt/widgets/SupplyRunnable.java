@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class are queued by <code>Display.supplyAsync</code>.
+ * They complete their future with the result of the supplier when they
+ * are run, or exceptionally when the synchronizer is released before
+ * they could be run, so that waiting on the future never hangs.
+ */
+class SupplyRunnable<T> implements Runnable {
+	final Supplier<T> supplier;
+	final CompletableFuture<T> future = new CompletableFuture<> ();
+
+SupplyRunnable (Supplier<T> supplier) {
+	this.supplier = supplier;
+}
+
+void release () {
+	future.completeExceptionally (new SWTException (SWT.ERROR_DEVICE_DISPOSED));
+}
+
+@Override
+public void run () {
+	if (future.isDone ()) return;
+	try {
+		future.complete (supplier.get ());
+	} catch (Throwable throwable) {
+		future.completeExceptionally (throwable);
+	}
+}
+
+}
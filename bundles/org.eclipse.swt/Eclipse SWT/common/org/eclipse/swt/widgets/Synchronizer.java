@@ -15,9 +15,10 @@ package org.eclipse.swt.widgets;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 
 import org.eclipse.swt.*;
-import org.eclipse.swt.graphics.*;
 
 /**
  * Instances of this class provide synchronization support
@@ -38,11 +39,17 @@ import org.eclipse.swt.graphics.*;
  * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
  */
 public class Synchronizer {
-	Display display;
+	volatile Display display;
 	final ConcurrentLinkedQueue<RunnableLock>  messages= new ConcurrentLinkedQueue<>();
+	final ConcurrentHashMap<Object, RunnableLock> coalescedMessages = new ConcurrentHashMap<> ();
+	final LongAdder messageCount = new LongAdder ();
+	volatile long lastDrainTime;
+	volatile int lastDrainCount;
 	Thread syncThread;
+	final AtomicInteger addState = new AtomicInteger ();
 	static final int GROW_SIZE = 4;
 	static final int MESSAGE_LIMIT = 64;
+	static final int CLOSED = Integer.MIN_VALUE;
 
 	//TEMPORARY CODE
 	static final boolean IS_COCOA = "cocoa".equals (SWT.getPlatform ());
@@ -68,15 +75,65 @@ void moveAllEventsTo (Synchronizer toReceiveTheEvents) {
 	// queue for backward compatibility:
 	java.util.List<RunnableLock> tail = new ArrayList<>();
 	toReceiveTheEvents.messages.removeIf(tail::add);
-	messages.removeIf(toReceiveTheEvents.messages::add);
+	messages.removeIf(lock -> {
+		messageCount.decrement ();
+		toReceiveTheEvents.messageCount.increment ();
+		return toReceiveTheEvents.messages.add (lock);
+	});
 	toReceiveTheEvents.messages.addAll(tail);
+	toReceiveTheEvents.coalescedMessages.putAll (coalescedMessages);
+	coalescedMessages.clear ();
 }
 
 
-void addLast (RunnableLock lock) {
-	boolean wake = messages.isEmpty();
-	messages.add(lock);
-	if (wake) display.wakeThread ();
+/*
+* Adds the lock to the end of the queue. The add state holds the CLOSED
+* bit and the number of threads that are adding, so entering and leaving
+* is one atomic increment and decrement. Once the synchronizer is closed,
+* only the user-interface thread may add, so every lock that was accepted
+* from another thread is run by the final drain of the display. If the
+* synchronizer is replaced concurrently, the lock is either taken by the
+* display or moved to the new synchronizer, but never stranded.
+*/
+boolean addLast (RunnableLock lock) {
+	int state = addState.getAndIncrement ();
+	try {
+		Display display = this.display;
+		if ((state & CLOSED) != 0 && (display == null || !display.isValidThread ())) return false;
+		boolean wake = messages.isEmpty();
+		messageCount.increment ();
+		messages.add(lock);
+		if (display == null) {
+			return !removeMessage (lock);
+		}
+		Synchronizer synchronizer = display.synchronizer;
+		if (synchronizer != this && synchronizer != null && removeMessage (lock)) {
+			return synchronizer.addLast (lock);
+		}
+		if (wake) display.wakeThread ();
+		return true;
+	} finally {
+		addState.decrementAndGet ();
+	}
+}
+
+/*
+* Stops accepting runnables from other threads. Threads that are adding
+* concurrently either finish before this returns or are rejected.
+*/
+void closeSynchronizer () {
+	int state = addState.getAndUpdate (s -> s | CLOSED);
+	while ((state & ~CLOSED) != 0) {
+		Thread.onSpinWait ();
+		state = addState.get ();
+	}
+}
+
+boolean removeMessage (RunnableLock lock) {
+	if (!messages.remove (lock)) return false;
+	messageCount.decrement ();
+	if (lock.key != null) coalescedMessages.remove (lock.key, lock);
+	return true;
 }
 
 /**
@@ -91,6 +148,8 @@ void addLast (RunnableLock lock) {
  * @see #syncExec
  */
 protected void asyncExec (Runnable runnable) {
+	Display display = this.display;
+	if (display == null) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
 	if (runnable == null) {
 		//TEMPORARY CODE
 		if (!(IS_GTK || IS_COCOA)) {
@@ -98,7 +157,83 @@ protected void asyncExec (Runnable runnable) {
 			return;
 		}
 	}
-	addLast (new RunnableLock (runnable));
+	if (!addLast (new RunnableLock (runnable))) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+}
+
+/**
+ * Returns the number of runnables that are waiting to be run
+ * by the user-interface thread. The value is a snapshot and may
+ * already be stale when it is returned.
+ *
+ * @return the number of pending runnables
+ *
+ * @since 3.129
+ */
+public int getMessageCount () {
+	return Math.max (0, messageCount.intValue ());
+}
+
+/**
+ * Returns the time in nanoseconds that the user-interface thread
+ * spent running queued runnables the last time it drained the queue.
+ *
+ * @return the duration of the last drain in nanoseconds
+ *
+ * @see #getLastDrainCount
+ * @see Display#setAsyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public long getLastDrainTime () {
+	return lastDrainTime;
+}
+
+/**
+ * Returns the number of runnables that the user-interface thread
+ * ran the last time it drained the queue.
+ *
+ * @return the number of runnables run by the last drain
+ *
+ * @see #getLastDrainTime
+ * @see Display#setAsyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public int getLastDrainCount () {
+	return lastDrainCount;
+}
+
+/**
+ * Causes the <code>run()</code> method of the runnable to
+ * be invoked by the user-interface thread at the next
+ * reasonable opportunity, replacing the runnable of an earlier
+ * call with the same key that has not been run yet. The
+ * replacement keeps the queue position of the earlier runnable.
+ *
+ * @param key the key that identifies the runnables to coalesce
+ * @param runnable code to run on the user-interface thread.
+ *
+ * @see #asyncExec
+ *
+ * @since 3.129
+ */
+protected void asyncExecCoalesced (Object key, Runnable runnable) {
+	boolean [] added = new boolean [1];
+	RunnableLock lock = coalescedMessages.compute (key, (k, queued) -> {
+		/*
+		* The user-interface thread removes the mapping before it reads the
+		* runnable, so a runnable replaced while mapped is never lost.
+		*/
+		if (queued != null) {
+			queued.runnable = runnable;
+			return queued;
+		}
+		RunnableLock newLock = new RunnableLock (runnable);
+		newLock.key = k;
+		added [0] = true;
+		return newLock;
+	});
+	if (added [0] && !addLast (lock)) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
 }
 
 boolean isMessagesEmpty() {
@@ -106,13 +241,36 @@ boolean isMessagesEmpty() {
 }
 
 void releaseSynchronizer () {
+	closeSynchronizer ();
 	display = null;
-	messages.clear();
+	/*
+	* Only runnables added by the user-interface thread after the final
+	* drain can still be queued. Threads that are waiting in syncExec and
+	* the futures of supplyAsync are completed with an error, since their
+	* runnables will never be run.
+	*/
+	RunnableLock lock;
+	while ((lock = removeFirst ()) != null) {
+		if (lock.runnable instanceof SupplyRunnable<?> supply) {
+			supply.release ();
+		}
+		if (lock.thread != null) {
+			lock.released = true;
+			lock.throwable = new SWTException (SWT.ERROR_DEVICE_DISPOSED);
+			LockSupport.unpark (lock.thread);
+		}
+	}
+	coalescedMessages.clear ();
 	syncThread = null;
 }
 
 RunnableLock removeFirst () {
-	return messages.poll();
+	RunnableLock lock = messages.poll();
+	if (lock != null) {
+		messageCount.decrement ();
+		if (lock.key != null) coalescedMessages.remove (lock.key, lock);
+	}
+	return lock;
 }
 
 boolean runAsyncMessages () {
@@ -120,28 +278,43 @@ boolean runAsyncMessages () {
 }
 
 boolean runAsyncMessages (boolean all) {
+	return runAsyncMessages (all, 0);
+}
+
+/*
+* Runs queued runnables. When the budget is positive, runnables are
+* taken off the queue until it is empty or the given number of
+* nanoseconds has elapsed. The caller then returns to the event loop
+* so that pending input is dispatched before the next batch.
+*/
+boolean runAsyncMessages (boolean all, long budget) {
 	boolean run = false;
+	int count = 0;
+	long start = System.nanoTime ();
 	do {
 		RunnableLock lock = removeFirst ();
-		if (lock == null) return run;
+		if (lock == null) break;
 		run = true;
-		synchronized (lock) {
-			syncThread = lock.thread;
-			display.sendPreEvent(SWT.None);
-			try {
-				lock.run (display);
-			} catch (Throwable t) {
-				lock.throwable = t;
-				SWT.error (SWT.ERROR_FAILED_EXEC, t);
-			} finally {
-				if (display != null && !display.isDisposed()) {
-					display.sendPostEvent(SWT.None);
-				}
-				syncThread = null;
-				lock.notifyAll ();
+		count++;
+		syncThread = lock.thread;
+		display.sendPreEvent(SWT.None);
+		try {
+			lock.run (display);
+		} catch (Throwable t) {
+			lock.throwable = t;
+			SWT.error (SWT.ERROR_FAILED_EXEC, t);
+		} finally {
+			if (display != null && !display.isDisposed()) {
+				display.sendPostEvent(SWT.None);
 			}
+			syncThread = null;
+			if (lock.thread != null) LockSupport.unpark (lock.thread);
 		}
-	} while (all);
+	} while (all || (budget > 0 && System.nanoTime () - start < budget));
+	if (run) {
+		lastDrainTime = System.nanoTime () - start;
+		lastDrainCount = count;
+	}
 	return run;
 }
 
@@ -155,26 +328,26 @@ boolean runAsyncMessages (boolean all) {
  *
  * @exception SWTException <ul>
  *    <li>ERROR_FAILED_EXEC - if an exception occurred when executing the runnable</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the display was disposed before the runnable was run</li>
  * </ul>
  *
  * @see #asyncExec
  */
 protected void syncExec (Runnable runnable) {
 	RunnableLock lock = null;
-	synchronized (Device.class) {
-		if (display == null || display.isDisposed ()) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
-		if (!display.isValidThread ()) {
-			if (runnable == null) {
-				display.wake ();
-				return;
-			}
-			lock = new RunnableLock (runnable);
-			/*
-			 * Only remember the syncThread for syncExec.
-			 */
-			lock.thread = Thread.currentThread();
-			addLast (lock);
+	Display display = this.display;
+	if (display == null || display.isDisposed ()) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+	if (!display.isValidThread ()) {
+		if (runnable == null) {
+			display.wake ();
+			return;
 		}
+		lock = new RunnableLock (runnable);
+		/*
+		 * Only remember the syncThread for syncExec.
+		 */
+		lock.thread = Thread.currentThread();
+		if (!addLast (lock)) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
 	}
 	if (lock == null) {
 		if (runnable != null) {
@@ -186,28 +359,29 @@ protected void syncExec (Runnable runnable) {
 			} catch (Error error) {
 				display.getErrorHandler ().accept (error);
 			} finally {
-				if (display != null && !display.isDisposed()) {
+				if (!display.isDisposed()) {
 					display.sendPostEvent(SWT.None);
 				}
 			}
 		}
 		return;
 	}
-	synchronized (lock) {
-		boolean interrupted = false;
-		while (!lock.done ()) {
-			try {
-				lock.wait ();
-			} catch (InterruptedException e) {
-				interrupted = true;
-			}
-		}
-		if (interrupted) {
-			Thread.currentThread().interrupt();
-		}
-		if (lock.throwable != null) {
-			SWT.error (SWT.ERROR_FAILED_EXEC, lock.throwable);
-		}
+	/*
+	* The user-interface thread unparks the waiting thread once the
+	* runnable has completed. Parking does not hold a monitor, so many
+	* threads can wait for their runnables without contention.
+	*/
+	boolean interrupted = false;
+	while (!lock.done ()) {
+		LockSupport.park (lock);
+		if (Thread.interrupted ()) interrupted = true;
+	}
+	if (interrupted) {
+		Thread.currentThread().interrupt();
+	}
+	if (lock.released) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+	if (lock.throwable != null) {
+		SWT.error (SWT.ERROR_FAILED_EXEC, lock.throwable);
 	}
 }
 
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.*;
+
+/**
+ * Instances of this class hold the pending timers of a display
+ * ordered by deadline. Timers are keyed by the identity of their
+ * runnable, so that scheduling, rescheduling and cancelling a
+ * timer costs O(log n) independent of the number of timers.
+ * <p>
+ * The queue only tracks deadlines. The display is responsible for
+ * arming a single platform timer for {@link #nextDeadline()} and for
+ * calling {@link #poll(long, long)} when it fires.
+ * </p>
+ */
+class TimerQueue {
+	Timer [] heap = new Timer [16];
+	int size;
+	long sequence;
+	final Map<Runnable, Timer> timers = new IdentityHashMap<> ();
+
+	static final class Timer {
+		Runnable runnable;
+		long deadline, sequence;
+		int index;
+	}
+
+/**
+ * Schedules the runnable to run at the given deadline. If the
+ * runnable is already scheduled, its deadline is replaced.
+ *
+ * @param runnable the runnable to schedule
+ * @param deadline the deadline in milliseconds
+ */
+void add (Runnable runnable, long deadline) {
+	Timer timer = timers.get (runnable);
+	if (timer != null) {
+		long oldDeadline = timer.deadline;
+		timer.deadline = deadline;
+		timer.sequence = sequence++;
+		if (deadline < oldDeadline) {
+			siftUp (timer.index);
+		} else {
+			siftDown (timer.index);
+		}
+		return;
+	}
+	timer = new Timer ();
+	timer.runnable = runnable;
+	timer.deadline = deadline;
+	timer.sequence = sequence++;
+	if (size == heap.length) heap = Arrays.copyOf (heap, size * 2);
+	timer.index = size;
+	heap [size++] = timer;
+	timers.put (runnable, timer);
+	siftUp (timer.index);
+}
+
+/**
+ * Returns the deadline of the earliest timer, or <code>Long.MAX_VALUE</code>
+ * if no timer is scheduled.
+ */
+long nextDeadline () {
+	return size == 0 ? Long.MAX_VALUE : heap [0].deadline;
+}
+
+/**
+ * Returns the sequence number that will be given to the next timer
+ * scheduled. Passing it to {@link #poll(long, long)} excludes timers
+ * that are scheduled while the due timers are being run.
+ */
+long nextSequence () {
+	return sequence;
+}
+
+/**
+ * Removes and returns the runnable of the earliest timer if its deadline
+ * is not after <code>time</code> and it was scheduled before <code>limit</code>.
+ *
+ * @param time the current time in milliseconds
+ * @param limit the exclusive upper bound of the timer sequence numbers
+ * @return the due runnable or <code>null</code>
+ */
+Runnable poll (long time, long limit) {
+	if (size == 0) return null;
+	Timer timer = heap [0];
+	if (timer.deadline > time || timer.sequence >= limit) return null;
+	removeAt (0);
+	timers.remove (timer.runnable);
+	return timer.runnable;
+}
+
+/**
+ * Cancels the timer of the given runnable.
+ *
+ * @param runnable the runnable to cancel
+ * @return <code>true</code> if the runnable was scheduled
+ */
+boolean remove (Runnable runnable) {
+	Timer timer = timers.remove (runnable);
+	if (timer == null) return false;
+	removeAt (timer.index);
+	return true;
+}
+
+int size () {
+	return size;
+}
+
+void clear () {
+	Arrays.fill (heap, 0, size, null);
+	size = 0;
+	timers.clear ();
+}
+
+void removeAt (int index) {
+	Timer last = heap [--size];
+	heap [size] = null;
+	if (index == size) return;
+	heap [index] = last;
+	last.index = index;
+	siftDown (index);
+	if (heap [index] == last) siftUp (index);
+}
+
+boolean before (Timer timer1, Timer timer2) {
+	if (timer1.deadline != timer2.deadline) return timer1.deadline < timer2.deadline;
+	return timer1.sequence < timer2.sequence;
+}
+
+void siftUp (int index) {
+	Timer timer = heap [index];
+	while (index > 0) {
+		int parentIndex = (index - 1) >>> 1;
+		Timer parent = heap [parentIndex];
+		if (!before (timer, parent)) break;
+		heap [index] = parent;
+		parent.index = index;
+		index = parentIndex;
+	}
+	heap [index] = timer;
+	timer.index = index;
+}
+
+void siftDown (int index) {
+	Timer timer = heap [index];
+	int half = size >>> 1;
+	while (index < half) {
+		int childIndex = 2 * index + 1;
+		Timer child = heap [childIndex];
+		int rightIndex = childIndex + 1;
+		if (rightIndex < size && before (heap [rightIndex], child)) {
+			childIndex = rightIndex;
+			child = heap [childIndex];
+		}
+		if (!before (child, timer)) break;
+		heap [index] = child;
+		child.index = index;
+		index = childIndex;
+	}
+	heap [index] = timer;
+	timer.index = index;
+}
+
+}
@@ -22,6 +22,7 @@ import java.util.*;
 import java.util.Map.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.regex.*;
 import java.util.regex.Pattern;
@@ -127,6 +128,7 @@ public class Display extends Device implements Executor {
 	Widget [] gdkEventWidgets;
 	int [] dispatchEvents;
 	Event [] eventQueue;
+	int eventQueueStart, eventQueueCount;
 	long fds;
 	int allocated_nfds;
 	boolean wake;
@@ -162,6 +164,7 @@ public class Display extends Device implements Executor {
 	long lastHandle;
 	Widget lastWidget;
 	Widget [] widgetTable;
+	HandleTable handleTable;
 	final static int GROW_SIZE = 1024;
 	static final int SWT_OBJECT_INDEX;
 	static final int SWT_OBJECT_INDEX1;
@@ -195,9 +198,10 @@ public class Display extends Device implements Executor {
 	long preeditWindow, preeditLabel;
 
 	/* Sync/Async Widget Communication */
-	Synchronizer synchronizer = new Synchronizer (this);
+	volatile Synchronizer synchronizer = new Synchronizer (this);
 	Consumer<RuntimeException> runtimeExceptionHandler = DefaultExceptionHandler.RUNTIME_EXCEPTION_HANDLER;
 	Consumer<Error> errorHandler = DefaultExceptionHandler.RUNTIME_ERROR_HANDLER;
+	int asyncExecTimeBudget;
 	Thread thread;
 
 	/* Display Shutdown */
@@ -234,8 +238,9 @@ public class Display extends Device implements Executor {
 	TrayItem currentTrayItem;
 
 	/* Timers */
-	int [] timerIds;
-	Runnable [] timerList;
+	TimerQueue timerQueue;
+	int timerId;
+	long timerDeadline;
 	Callback timerCallback;
 	long timerProc;
 	Callback windowTimerCallback;
@@ -271,8 +276,15 @@ public class Display extends Device implements Executor {
 	Callback idleCallback;
 	static final String ADD_IDLE_PROC_KEY = "org.eclipse.swt.internal.gtk.addIdleProc"; //$NON-NLS-1$
 	static final String REMOVE_IDLE_PROC_KEY = "org.eclipse.swt.internal.gtk.removeIdleProc"; //$NON-NLS-1$
-	Object idleLock = new Object();
-	boolean idleNeeded;
+	/*
+	* A ReentrantLock rather than a monitor, so that threads calling asyncExec
+	* or syncExec never block while holding a monitor. On virtual threads a
+	* monitor would pin the carrier thread. The idle source fields, including
+	* idleDisposed, are only accessed while holding the lock.
+	*/
+	final ReentrantLock idleLock = new ReentrantLock ();
+	volatile boolean idleNeeded;
+	boolean idleDisposed;
 
 	/* GtkTreeView callbacks */
 	long cellDataProc;
@@ -714,16 +726,35 @@ void addGdkEvent (long event) {
 	gdkEventCount++;
 }
 
+void addIdleProcIfNeeded () {
+	if (!idleNeeded) return;
+	idleLock.lock ();
+	try {
+		if (idleNeeded && !idleDisposed && idleHandle == 0) {
+			if (GTK.GTK4) {
+				idleHandle = OS.g_idle_add (idleProc, 0);
+			} else {
+				idleHandle = GDK.gdk_threads_add_idle (idleProc, 0);
+			}
+		}
+	} finally {
+		idleLock.unlock ();
+	}
+}
+
 void addIdleProc() {
-	synchronized (idleLock){
+	idleLock.lock ();
+	try {
 		this.idleNeeded = true;
-		if (idleHandle == 0) {
+		if (!idleDisposed && idleHandle == 0) {
 			if (GTK.GTK4) {
 				idleHandle = OS.g_idle_add (idleProc, 0);
 			} else {
 				idleHandle = GDK.gdk_threads_add_idle (idleProc, 0);
 			}
 		}
+	} finally {
+		idleLock.unlock ();
 	}
 }
 
@@ -884,6 +915,7 @@ void addWidget (long handle, Widget widget) {
 	}
 	OS.g_object_set_qdata (handle, SWT_OBJECT_INDEX, index);
 	int oldSlot = freeSlot;
+	handleTable.put (handle, oldSlot);
 	freeSlot = indexTable[oldSlot];
 	// Mark old index slot as used
 	indexTable [oldSlot] = SLOT_IN_USE;
@@ -916,20 +948,52 @@ void addWidget (long handle, Widget widget) {
  * @see #syncExec
  */
 public void asyncExec (Runnable runnable) {
-	synchronized (Device.class) {
-		if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
-		synchronized (idleLock) {
-			if (idleNeeded && idleHandle == 0) {
-				if (GTK.GTK4) {
-					idleHandle = OS.g_idle_add (idleProc, 0);
-				} else {
-					idleHandle = GDK.gdk_threads_add_idle (idleProc, 0);
-				}
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	addIdleProcIfNeeded ();
+	synchronizer.asyncExec (runnable);
+}
 
-			}
-		}
-		synchronizer.asyncExec (runnable);
-	}
+/**
+ * Causes the <code>run()</code> method of the runnable to
+ * be invoked by the user-interface thread at the next
+ * reasonable opportunity, like <code>asyncExec</code>. If a
+ * runnable that was queued with the same key has not been run
+ * yet, it is replaced by the given runnable, which keeps the
+ * queue position of the replaced one. This allows frequent
+ * updates of the same state, for example the text of a label,
+ * to be run once per iteration of the event loop instead of
+ * once per update.
+ * <p>
+ * Keys are compared with <code>equals()</code>.
+ * </p>
+ * <p>
+ * Note that at the time the runnable is invoked, widgets
+ * that have the receiver as their display may have been
+ * disposed. Therefore, it is necessary to check for this
+ * case inside the runnable before accessing the widget.
+ * </p>
+ *
+ * @param key the key that identifies the runnables to coalesce
+ * @param runnable code to run on the user-interface thread
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the key or the runnable is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec
+ *
+ * @since 3.129
+ */
+public void asyncExecCoalesced (Object key, Runnable runnable) {
+	if (key == null || runnable == null) error (SWT.ERROR_NULL_ARGUMENT);
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	addIdleProcIfNeeded ();
+	synchronizer.asyncExecCoalesced (key, runnable);
 }
 
 /**
@@ -1122,6 +1186,7 @@ protected void create (DeviceData data) {
 	checkSubclass ();
 	checkDisplay(thread = Thread.currentThread (), false);
 	createDisplay (data);
+	if (data != null) asyncExecTimeBudget = Math.max (0, data.asyncExecTimeBudget);
 	register (this);
 	if (Default == null) Default = this;
 }
@@ -3449,10 +3514,26 @@ public boolean getTouchEnabled() {
 Widget getWidget (long handle) {
 	if (handle == 0) return null;
 	if (lastWidget != null && lastHandle == handle) return lastWidget;
-	long index = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
+	if (handleTable == null) return null;
+	/*
+	* Resolve the handle in the handle table rather than through its
+	* SWT_OBJECT_INDEX qdata, which costs a JNI call and a GLib lookup
+	* on every signal callback. The entry of a handle is stale when
+	* removeWidget was not called for it, so fall back to the qdata
+	* when the handle is missing or maps to a disposed widget.
+	*/
+	int index = handleTable.get (handle);
 	if (0 <= index && index < widgetTable.length) {
+		Widget widget = widgetTable [index];
+		if (widget != null && !widget.isDisposed ()) {
+			lastHandle = handle;
+			return lastWidget = widget;
+		}
+	}
+	long data = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
+	if (0 <= data && data < widgetTable.length) {
 		lastHandle = handle;
-		return lastWidget = widgetTable [(int)index];
+		return lastWidget = widgetTable [(int)data];
 	}
 	return null;
 }
@@ -3460,8 +3541,11 @@ Widget getWidget (long handle) {
 long idleProc (long data) {
 	boolean result = runAsyncMessages (false);
 	if (!result) {
-		synchronized (idleLock) {
+		idleLock.lock ();
+		try {
 			idleHandle = 0;
+		} finally {
+			idleLock.unlock ();
 		}
 	}
 	return result ? 1 : 0;
@@ -3668,6 +3752,7 @@ void initializeCallbacks () {
 	closuresProc [Widget.TEST_COLLAPSE_ROW] = windowProc4;
 	closuresProc [Widget.TEST_EXPAND_ROW] = windowProc4;
 	closuresProc [Widget.ROW_HAS_CHILD_TOGGLED] = windowProc4;
+	closuresProc [Widget.ROW_CHANGED] = windowProc4;
 	closuresProc [Widget.DELETE_FROM_CURSOR] = windowProc4;
 	closuresProc [Widget.DELETE_FROM_CURSOR_INVERSE] = windowProc4;
 	closuresProc [Widget.SIZE_ALLOCATE_GTK4] = windowProc4;
@@ -3821,6 +3906,7 @@ void initializeSystemSettings () {
 void initializeWidgetTable () {
 	indexTable = new int [GROW_SIZE];
 	widgetTable = new Widget [GROW_SIZE];
+	handleTable = new HandleTable ();
 	for (int i=0; i<GROW_SIZE-1; i++) indexTable [i] = i + 1;
 	indexTable [GROW_SIZE - 1] = -1;
 }
@@ -4441,20 +4527,26 @@ void postEvent (Event event) {
 	* This code is always called in the Display's
 	* thread so it must be re-enterant but does not
 	* need to be synchronized.
+	*
+	* The queue is a circular buffer whose length is
+	* always a power of two, so that posting and taking
+	* an event off the queue are constant time.
 	*/
-	if (eventQueue == null) eventQueue = new Event [4];
-	int index = 0;
-	int length = eventQueue.length;
-	while (index < length) {
-		if (eventQueue [index] == null) break;
-		index++;
+	if (eventQueue == null) {
+		eventQueue = new Event [16];
+		eventQueueStart = eventQueueCount = 0;
 	}
-	if (index == length) {
-		Event [] newQueue = new Event [length + 4];
-		System.arraycopy (eventQueue, 0, newQueue, 0, length);
+	int length = eventQueue.length;
+	if (eventQueueCount == length) {
+		Event [] newQueue = new Event [length * 2];
+		int count = length - eventQueueStart;
+		System.arraycopy (eventQueue, eventQueueStart, newQueue, 0, count);
+		System.arraycopy (eventQueue, 0, newQueue, count, eventQueueStart);
 		eventQueue = newQueue;
+		eventQueueStart = 0;
 	}
-	eventQueue [index] = event;
+	eventQueue [(eventQueueStart + eventQueueCount) & (eventQueue.length - 1)] = event;
+	eventQueueCount++;
 }
 
 void putGdkEvents () {
@@ -4590,6 +4682,11 @@ protected void release () {
 		}
 		tray = null;
 
+		/*
+		* Reject runnables from other threads before the final drain, so
+		* that every runnable that was accepted is run by the loop below.
+		*/
+		synchronizer.closeSynchronizer ();
 		for (;;) {
 			try {
 				if (!readAndDispatch ()) break;
@@ -4706,10 +4803,16 @@ void releaseDisplay () {
 	shellMapProc = 0;
 
 	/* Dispose the run async messages callback */
-	idleCallback.dispose (); idleCallback = null;
-	idleProc = 0;
-	if (idleHandle != 0) OS.g_source_remove (idleHandle);
-	idleHandle = 0;
+	idleLock.lock ();
+	try {
+		idleDisposed = true;
+		if (idleHandle != 0) OS.g_source_remove (idleHandle);
+		idleHandle = 0;
+		idleCallback.dispose (); idleCallback = null;
+		idleProc = 0;
+	} finally {
+		idleLock.unlock ();
+	}
 
 	/* Dispose GtkTreeView callbacks */
 	cellDataCallback.dispose (); cellDataCallback = null;
@@ -4741,13 +4844,9 @@ void releaseDisplay () {
 	if (shellMapProcClosure != 0) OS.g_closure_unref (shellMapProcClosure);
 
 	/* Dispose the timer callback */
-	if (timerIds != null) {
-		for (int i=0; i<timerIds.length; i++) {
-			if (timerIds [i] != 0) OS.g_source_remove (timerIds [i]);
-		}
-	}
-	timerIds = null;
-	timerList = null;
+	if (timerId != 0) OS.g_source_remove (timerId);
+	timerId = 0;
+	timerQueue = null;
 	timerProc = 0;
 	timerCallback.dispose ();
 	timerCallback = null;
@@ -4850,13 +4949,13 @@ void releaseDisplay () {
 	flushData = closures = null;
 	indexTable = signalIds = null;
 	widgetTable = modalShells = null;
+	handleTable = null;
 	data = null;
 	values = keys = null;
 	eventTable = filterTable = null;
 	modalDialog = null;
 	flushRect = null;
 	exposeEvent = null;
-	idleLock = null;
 
 	/* Save window trim caches */
 	String userHome = System.getProperty ("user.home"); //$NON-NLS-1$
@@ -4927,10 +5026,13 @@ long removeGdkEvent () {
 }
 
 void removeIdleProc () {
-	synchronized (idleLock) {
+	idleLock.lock ();
+	try {
 		if (idleHandle != 0) OS.g_source_remove (idleHandle);
 		idleNeeded = false;
 		idleHandle = 0;
+	} finally {
+		idleLock.unlock ();
 	}
 }
 /**
@@ -4983,12 +5085,15 @@ Widget removeWidget (long handle) {
 	if (handle == 0) return null;
 	lastWidget = null;
 	Widget widget = null;
-	int index;
-	long data = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
-	if(data < 0 || data > Integer.MAX_VALUE) {
-		SWT.error(SWT.ERROR_INVALID_RETURN_VALUE, null, ". g_object_get_qdata returned unexpected index value" +  debugInfoForIndex(data));
+	int index = handleTable.remove (handle);
+	if (index == -1) {
+		/* The handle table and the qdata should agree, fall back to the qdata if not */
+		long data = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
+		if(data < 0 || data > Integer.MAX_VALUE) {
+			SWT.error(SWT.ERROR_INVALID_RETURN_VALUE, null, ". g_object_get_qdata returned unexpected index value" +  debugInfoForIndex(data));
+		}
+		index = (int)data;
 	}
-	index = (int)data;
 	if (0 <= index && index < widgetTable.length) {
 		widget = widgetTable [index];
 		widgetTable [index] = null;
@@ -5044,7 +5149,7 @@ String dumpWidgetTableInfo() {
 }
 
 boolean runAsyncMessages (boolean all) {
-	return synchronizer.runAsyncMessages (all);
+	return synchronizer.runAsyncMessages (all, asyncExecTimeBudget * 1000000L);
 }
 
 boolean runDeferredEvents () {
@@ -5057,11 +5162,11 @@ boolean runDeferredEvents () {
 	while (eventQueue != null) {
 
 		/* Take an event off the queue */
-		Event event = eventQueue [0];
-		if (event == null) break;
-		int length = eventQueue.length;
-		System.arraycopy (eventQueue, 1, eventQueue, 0, --length);
-		eventQueue [length] = null;
+		if (eventQueueCount == 0) break;
+		Event event = eventQueue [eventQueueStart];
+		eventQueue [eventQueueStart] = null;
+		eventQueueStart = (eventQueueStart + 1) & (eventQueue.length - 1);
+		eventQueueCount--;
 
 		/* Run the event */
 		Widget widget = event.widget;
@@ -5082,6 +5187,7 @@ boolean runDeferredEvents () {
 
 	/* Clear the queue */
 	eventQueue = null;
+	eventQueueStart = eventQueueCount = 0;
 	return run;
 }
 
@@ -5544,6 +5650,60 @@ public final Consumer<Error> getErrorHandler () {
 	return errorHandler;
 }
 
+/**
+ * Sets the maximum time in milliseconds that the user-interface thread
+ * spends running runnables queued by <code>asyncExec</code> before it
+ * returns to the event loop. Pending input is dispatched before the next
+ * batch of runnables is run, so that a flood of runnables cannot starve
+ * the user interface.
+ * <p>
+ * The default value of zero runs one runnable per iteration of the
+ * event loop.
+ * </p>
+ *
+ * @param milliseconds the time budget in milliseconds, or zero
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the budget is negative</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec
+ * @see Synchronizer#getLastDrainTime
+ * @see DeviceData#asyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public void setAsyncExecTimeBudget (int milliseconds) {
+	checkDevice ();
+	if (milliseconds < 0) error (SWT.ERROR_INVALID_ARGUMENT);
+	asyncExecTimeBudget = milliseconds;
+}
+
+/**
+ * Returns the maximum time in milliseconds that the user-interface thread
+ * spends running runnables queued by <code>asyncExec</code> before it
+ * returns to the event loop.
+ *
+ * @return the time budget in milliseconds, or zero
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #setAsyncExecTimeBudget
+ *
+ * @since 3.129
+ */
+public int getAsyncExecTimeBudget () {
+	checkDevice ();
+	return asyncExecTimeBudget;
+}
+
 void showIMWindow (Control control) {
 	imControl = control;
 	if (preeditWindow == 0) {
@@ -5686,63 +5846,64 @@ public boolean sleep () {
 public void timerExec (int milliseconds, Runnable runnable) {
 	checkDevice ();
 	if (runnable == null) error (SWT.ERROR_NULL_ARGUMENT);
-	if (timerList == null) timerList = new Runnable [4];
-	if (timerIds == null) timerIds = new int [4];
-	int index = 0;
-	while (index < timerList.length) {
-		if (timerList [index] == runnable) break;
-		index++;
+	if (timerQueue == null) timerQueue = new TimerQueue ();
+	if (milliseconds < 0) {
+		/*
+		* Note that the GLib source is left armed when the earliest
+		* timer is cancelled. It fires early, finds nothing due and
+		* is armed again for the next deadline.
+		*/
+		timerQueue.remove (runnable);
+		return;
 	}
-	if (index != timerList.length) {
-		OS.g_source_remove (timerIds [index]);
-		timerList [index] = null;
-		timerIds [index] = 0;
-		if (milliseconds < 0) return;
-	} else {
-		if (milliseconds < 0) return;
-		index = 0;
-		while (index < timerList.length) {
-			if (timerList [index] == null) break;
-			index++;
-		}
-		if (index == timerList.length) {
-			Runnable [] newTimerList = new Runnable [timerList.length + 4];
-			System.arraycopy (timerList, 0, newTimerList, 0, timerList.length);
-			timerList = newTimerList;
-			int [] newTimerIds = new int [timerIds.length + 4];
-			System.arraycopy (timerIds, 0, newTimerIds, 0, timerIds.length);
-			timerIds = newTimerIds;
-		}
+	timerQueue.add (runnable, timerTime () + milliseconds);
+	updateTimer ();
+}
+
+long timerTime () {
+	return System.nanoTime () / 1000000;
+}
+
+/*
+* All timers share a single GLib timeout source that is armed for the
+* earliest deadline in the timer queue. This keeps the cost of timerExec
+* independent of the number of pending timers.
+*/
+void updateTimer () {
+	long deadline = timerQueue.nextDeadline ();
+	if (timerId != 0) {
+		if (timerDeadline <= deadline) return;
+		OS.g_source_remove (timerId);
+		timerId = 0;
 	}
-	int timerId;
+	if (deadline == Long.MAX_VALUE) return;
+	int milliseconds = (int) Math.min (Math.max (0, deadline - timerTime ()), Integer.MAX_VALUE);
 	if (GTK.GTK4) {
-		timerId = OS.g_timeout_add (milliseconds, timerProc, index);
+		timerId = OS.g_timeout_add (milliseconds, timerProc, 0);
 	} else {
-		timerId = GDK.gdk_threads_add_timeout (milliseconds, timerProc, index);
-	}
-	if (timerId != 0) {
-		timerIds [index] = timerId;
-		timerList [index] = runnable;
+		timerId = GDK.gdk_threads_add_timeout (milliseconds, timerProc, 0);
 	}
+	if (timerId != 0) timerDeadline = deadline;
 }
 
 long timerProc (long i) {
-	if (timerList == null) return 0;
-	int index = (int)i;
-	if (0 <= index && index < timerList.length) {
-		Runnable runnable = timerList [index];
-		timerList [index] = null;
-		timerIds [index] = 0;
-		if (runnable != null) {
-			try {
-				runnable.run ();
-			} catch (RuntimeException exception) {
-				runtimeExceptionHandler.accept (exception);
-			} catch (Error exception) {
-				errorHandler.accept (exception);
-			}
+	timerId = 0;
+	if (timerQueue == null) return 0;
+	long time = timerTime ();
+	/* Timers scheduled by the runnables wait for the next dispatch */
+	long limit = timerQueue.nextSequence ();
+	Runnable runnable;
+	while ((runnable = timerQueue.poll (time, limit)) != null) {
+		try {
+			runnable.run ();
+		} catch (RuntimeException exception) {
+			runtimeExceptionHandler.accept (exception);
+		} catch (Error exception) {
+			errorHandler.accept (exception);
 		}
+		if (timerQueue == null) return 0;
 	}
+	updateTimer ();
 	return 0;
 }
 
@@ -5950,20 +6111,9 @@ long signalProc (long gobject, long arg1, long user_data) {
  * @see #asyncExec
  */
 public void syncExec (Runnable runnable) {
-	Synchronizer synchronizer;
-	synchronized (Device.class) {
-		if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
-		synchronizer = this.synchronizer;
-		synchronized (idleLock) {
-			if (idleNeeded && idleHandle == 0) {
-				if (GTK.GTK4) {
-					idleHandle = OS.g_idle_add (idleProc, 0);
-				} else {
-					idleHandle = GDK.gdk_threads_add_idle (idleProc, 0);
-				}
-			}
-		}
-	}
+	Synchronizer synchronizer = this.synchronizer;
+	if (synchronizer == null || isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	addIdleProcIfNeeded ();
 	synchronizer.syncExec (runnable);
 }
 
@@ -6014,6 +6164,53 @@ public <T, E extends Exception> T syncCall(SwtCallable<T, E> callable) throws E
 	return result.getPlain();
 }
 
+/**
+ * Calls the supplier on the user-interface thread at the next reasonable
+ * opportunity, as with {@link #asyncExec(Runnable)}, and returns a future
+ * that is completed with its result. The caller of this method continues
+ * to run in parallel and does not wait for the supplier.
+ * <p>
+ * Any exception or error that is thrown from the supplier completes the
+ * future exceptionally. It is not passed to the runtime exception handler
+ * or the error handler of the receiver. If the future is cancelled before
+ * the supplier is called, the supplier is not called. If the receiver is
+ * disposed before the supplier could be called, the future is completed
+ * exceptionally with an <code>SWTException</code> with the code
+ * <code>ERROR_DEVICE_DISPOSED</code>.
+ * </p>
+ * <p>
+ * Dependent stages of the future can be run on the user-interface thread
+ * by passing the receiver, which is an {@link Executor}, to the
+ * <code>*Async</code> methods of the future.
+ * </p>
+ * <p>
+ * Note that at the time the supplier is invoked, widgets that have the receiver
+ * as their display may have been disposed. Therefore, it is necessary to check
+ * for this case inside the supplier before accessing the widget.
+ * </p>
+ *
+ * @param supplier the code to call on the user-interface thread
+ * @return a future that is completed with the result of the supplier
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the supplier is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #asyncExec(Runnable)
+ * @see #execute(Runnable)
+ * @see #syncCall(SwtCallable)
+ * @since 3.129
+ */
+public <T> CompletableFuture<T> supplyAsync (Supplier<T> supplier) {
+	if (supplier == null) error (SWT.ERROR_NULL_ARGUMENT);
+	SupplyRunnable<T> runnable = new SupplyRunnable<> (supplier);
+	asyncExec (runnable);
+	return runnable.future;
+}
+
 static int translateKey (int key) {
 	for (int i=0; i<KeyTable.length; i++) {
 		if (KeyTable [i] [0] == key) return KeyTable [i] [1];
@@ -6056,11 +6253,9 @@ public void update () {
  * @see #sleep
  */
 public void wake () {
-	synchronized (Device.class) {
-		if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
-		if (thread == Thread.currentThread ()) return;
-		wakeThread ();
-	}
+	if (isDisposed ()) error (SWT.ERROR_DEVICE_DISPOSED);
+	if (thread == Thread.currentThread ()) return;
+	wakeThread ();
 }
 
 void wakeThread () {
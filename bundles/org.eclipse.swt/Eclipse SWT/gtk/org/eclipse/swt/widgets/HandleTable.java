@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+/**
+ * Instances of this class map native handles to the index of
+ * their widget in the widget table of a display. Lookups are
+ * done in Java with open addressing, so that resolving the widget
+ * of a signal callback does not need to cross JNI.
+ */
+class HandleTable {
+	long [] handles;
+	int [] indices;
+	int size, mask;
+
+	static final int INITIAL_SIZE = 1024;
+
+HandleTable () {
+	handles = new long [INITIAL_SIZE];
+	indices = new int [INITIAL_SIZE];
+	mask = INITIAL_SIZE - 1;
+}
+
+int slot (long handle) {
+	/* Mix the bits of the handle, pointers are aligned and clustered */
+	long hash = handle * 0x9E3779B97F4A7C15L;
+	return (int) (hash ^ (hash >>> 32)) & mask;
+}
+
+/**
+ * Returns the index that is mapped to the handle, or -1.
+ */
+int get (long handle) {
+	int slot = slot (handle);
+	long current;
+	while ((current = handles [slot]) != 0) {
+		if (current == handle) return indices [slot];
+		slot = (slot + 1) & mask;
+	}
+	return -1;
+}
+
+/**
+ * Maps the handle to the index, replacing an earlier mapping.
+ */
+void put (long handle, int index) {
+	if (handle == 0) return;
+	int slot = slot (handle);
+	long current;
+	while ((current = handles [slot]) != 0) {
+		if (current == handle) {
+			indices [slot] = index;
+			return;
+		}
+		slot = (slot + 1) & mask;
+	}
+	handles [slot] = handle;
+	indices [slot] = index;
+	if (++size * 2 > handles.length) resize (handles.length * 2);
+}
+
+/**
+ * Removes the mapping of the handle and returns its index, or -1.
+ */
+int remove (long handle) {
+	if (handle == 0) return -1;
+	int slot = slot (handle);
+	long current;
+	while ((current = handles [slot]) != handle) {
+		if (current == 0) return -1;
+		slot = (slot + 1) & mask;
+	}
+	int index = indices [slot];
+	/*
+	* Shift the following entries of the probe sequence back
+	* instead of leaving a tombstone, so that lookups of missing
+	* handles stay short.
+	*/
+	int gap = slot;
+	slot = (slot + 1) & mask;
+	while ((current = handles [slot]) != 0) {
+		int home = slot (current);
+		if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+			handles [gap] = current;
+			indices [gap] = indices [slot];
+			gap = slot;
+		}
+		slot = (slot + 1) & mask;
+	}
+	handles [gap] = 0;
+	indices [gap] = 0;
+	size--;
+	return index;
+}
+
+void resize (int length) {
+	long [] oldHandles = handles;
+	int [] oldIndices = indices;
+	handles = new long [length];
+	indices = new int [length];
+	mask = length - 1;
+	size = 0;
+	for (int i = 0; i < oldHandles.length; i++) {
+		if (oldHandles [i] != 0) put (oldHandles [i], oldIndices [i]);
+	}
+}
+
+}
@@ -15,6 +15,8 @@
 package org.eclipse.swt.widgets;
 
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -76,7 +78,7 @@ import org.eclipse.swt.internal.gtk4.*;
  */
 public class Table extends Composite {
 	long modelHandle, checkRenderer;
-	int itemCount, columnCount, lastIndexOf, sortDirection;
+	int itemCount, columnCount, staleIndex, sortDirection;
 	int selectionCountOnPress,selectionCountOnRelease;
 	long ignoreCell;
 	TableItem [] items;
@@ -98,6 +100,16 @@ public class Table extends Composite {
 	int headerHeight;
 	boolean boundsChangedSinceLastDraw, headerVisible, wasScrolled;
 	boolean rowActivated;
+	long [] pageStamps;
+	long itemStamp;
+	int virtualItemCount, virtualItemLimit, drawnPage;
+	boolean clearPending;
+	int measureStamp;
+	boolean measureCacheEnabled;
+	/* Mirror of the selected rows, null when it has to be read from GTK */
+	BitSet selectedRows;
+	int updateCount, updateHandler;
+	Set<TableItem> updateItems;
 
 	private long headerCSSProvider;
 
@@ -114,6 +126,17 @@ public class Table extends Composite {
 	static final int CELL_FONT = 4;
 	static final int CELL_SURFACE = 5;
 	static final int CELL_TYPES = CELL_SURFACE + 1;
+	static final int PAGE_SIZE = 256;
+	static final int MEASURE_SLOT = 7;
+	/*
+	* A VIRTUAL table that sets an Integer limit with the KEY_VIRTUAL_ITEM_LIMIT
+	* data keeps at most that many populated items.  When it is exceeded, the
+	* items of the pages that were least recently drawn are cleared.  The items
+	* stay valid and are populated again by SetData when they are needed.
+	*/
+	static final int MIN_VIRTUAL_ITEM_LIMIT = 8 * PAGE_SIZE;
+	static final int DETACH_MODEL_COUNT = 1024;
+	static final int WIDTH_SAMPLE_SIZE = 16;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -166,12 +189,18 @@ void _addListener (int eventType, Listener listener) {
 				break;
 		}
 	}
+	if (eventType == SWT.MeasureItem) {
+		measureStamp++;
+		invalidatePack ();
+	}
 }
 
 TableItem _getItem (int index) {
 	if ((style & SWT.VIRTUAL) == 0) return items [index];
 	if (items [index] != null) return items [index];
-	return items [index] = new TableItem (this, SWT.NONE, index, false);
+	TableItem item = items [index] = new TableItem (this, SWT.NONE, index, false);
+	item.rowIndex = index;
+	return item;
 }
 
 static int checkStyle (int style) {
@@ -198,6 +227,7 @@ long cellDataProc (long tree_column, long cell, long tree_model, long iter, long
 	long path = GTK.gtk_tree_model_get_path (tree_model, iter);
 	int [] index = new int [1];
 	C.memmove (index, GTK.gtk_tree_path_get_indices (path), 4);
+	if (virtualItemLimit > 0 && (style & SWT.VIRTUAL) != 0) touchPage (index[0]);
 	TableItem item = _getItem (index[0]);
 	GTK.gtk_tree_path_free (path);
 	if (item != null) OS.g_object_set_qdata (cell, Display.SWT_OBJECT_INDEX2, item.handle);
@@ -223,7 +253,6 @@ long cellDataProc (long tree_column, long cell, long tree_model, long iter, long
 	boolean setData = false;
 	if ((style & SWT.VIRTUAL) != 0) {
 		if (!item.cached) {
-			lastIndexOf = index[0];
 			setData = checkData (item);
 		}
 	}
@@ -278,6 +307,7 @@ boolean checkData (TableItem item) {
 	if (item.cached) return true;
 	if ((style & SWT.VIRTUAL) != 0) {
 		item.cached = true;
+		virtualItemCount++;
 		Event event = new Event ();
 		event.item = item;
 		event.index = indexOf (item);
@@ -333,6 +363,62 @@ public void addSelectionListener (SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) {
+		updateHandler = OS.g_signal_connect_closure (modelHandle, OS.row_changed, display.getClosure (ROW_CHANGED), false);
+		blockRowChanged ();
+	}
+}
+
+void blockRowChanged () {
+	/*
+	* Feature in GTK.  The tree view invalidates, measures and redraws
+	* a row every time one of its cells is set.  The fix is to block the
+	* row-changed handler of the tree view during an update, to record
+	* the changed rows and to emit row-changed once for each of them
+	* when the update ends.  The tree view connects a new handler
+	* whenever the model is set, so this is done again after that.
+	*/
+	int signalId = OS.g_signal_lookup (OS.row_changed, GTK.gtk_tree_model_get_type ());
+	OS.g_signal_handlers_block_matched (modelHandle, OS.G_SIGNAL_MATCH_ID | OS.G_SIGNAL_MATCH_DATA, signalId, 0, 0, 0, handle);
+}
+
+void cellChanged (TableItem item, int index) {
+	item.measureCache = null;
+	if (index == -1) {
+		for (int i=0; i<columnCount; i++) columns [i].cellChanged (item);
+	} else if (index < columnCount) {
+		columns [index].cellChanged (item);
+	}
+}
+
+void invalidatePack () {
+	for (int i=0; i<columnCount; i++) columns [i].invalidatePack ();
+}
+
 int calculateWidth (long column, long iter) {
 	GTK.gtk_tree_view_column_cell_set_cell_data(column, modelHandle, iter, false, false);
 
@@ -711,6 +797,7 @@ void createHandle (int index) {
 }
 
 void createItem (TableColumn column, int index) {
+	measureStamp++;
 	if (!(0 <= index && index <= columnCount)) error (SWT.ERROR_INVALID_RANGE);
 	if (columnCount == 0) {
 		column.handle = GTK.gtk_tree_view_get_column (handle, 0);
@@ -822,8 +909,12 @@ void createItem (TableItem item, int index) {
 	} else {
 		GTK.gtk_list_store_insert (modelHandle, item.handle, index);
 	}
+	if (index < itemCount) staleIndex = Math.min (staleIndex, index);
 	System.arraycopy (items, index, items, index + 1, itemCount++ - index);
 	items [index] = item;
+	item.rowIndex = index;
+	insertSelectedRow (index);
+	cellChanged (item, -1);
 }
 
 void createRenderers (long columnHandle, int modelIndex, boolean check, int columnStyle) {
@@ -964,6 +1055,7 @@ public void deselect (int index) {
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	GTK.gtk_tree_selection_unselect_iter (selection, _getItem (index).handle);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	if (selectedRows != null) selectedRows.clear (index);
 	if (fixColumn) hideFirstColumn ();
 }
 
@@ -984,14 +1076,21 @@ public void deselect (int index) {
  */
 public void deselect (int start, int end) {
 	checkWidget();
+	start = Math.max (0, start);
+	end = Math.min (end, itemCount - 1);
+	if (start > end) return;
 	boolean fixColumn = showFirstColumn ();
 	long selection = GTK.gtk_tree_view_get_selection (handle);
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
-	for (int index=start; index<=end; index++) {
-		if (index < 0 || index >= itemCount) continue;
-		GTK.gtk_tree_selection_unselect_iter (selection, _getItem (index).handle);
+	if ((style & SWT.MULTI) != 0) {
+		selectRange (selection, start, end, false);
+	} else {
+		for (int index=start; index<=end; index++) {
+			GTK.gtk_tree_selection_unselect_iter (selection, _getItem (index).handle);
+		}
 	}
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	if (selectedRows != null) selectedRows.clear (start, end + 1);
 	if (fixColumn) hideFirstColumn ();
 }
 
@@ -1022,6 +1121,7 @@ public void deselect (int [] indices) {
 		int index = indices[i];
 		if (index < 0 || index >= itemCount) continue;
 		GTK.gtk_tree_selection_unselect_iter (selection, _getItem (index).handle);
+		if (selectedRows != null) selectedRows.clear (index);
 	}
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	if (fixColumn) hideFirstColumn ();
@@ -1042,10 +1142,12 @@ public void deselectAll () {
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	GTK.gtk_tree_selection_unselect_all (selection);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	selectedRows = new BitSet ();
 	if (fixColumn) hideFirstColumn ();
 }
 
 void destroyItem (TableColumn column) {
+	measureStamp++;
 	int index = 0;
 	while (index < columnCount) {
 		if (columns [index] == column) break;
@@ -1127,6 +1229,8 @@ void destroyItem (TableItem item) {
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	GTK.gtk_list_store_remove (modelHandle, item.handle);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	removeSelectedRows (index, index);
+	staleIndex = Math.min (staleIndex, index);
 	System.arraycopy (items, index + 1, items, index, --itemCount - index);
 	items [itemCount] = null;
 	if (itemCount == 0) resetCustomDraw ();
@@ -1775,6 +1879,34 @@ long getPixbufRenderer (long column) {
 	return pixbufRenderer;
 }
 
+/*
+* Returns the mirror of the selected rows.  The mirror is read from
+* GTK once and then kept up to date by the methods that change the
+* selection, so that queries do not walk the rows of the selection.
+*/
+BitSet getSelectedRows () {
+	if (selectedRows == null) {
+		BitSet rows = new BitSet ();
+		long selection = GTK.gtk_tree_view_get_selection (handle);
+		long list = GTK.gtk_tree_selection_get_selected_rows (selection, null);
+		long originalList = list;
+		int [] index = new int [1];
+		while (list != 0) {
+			long data = OS.g_list_data (list);
+			long indices = GTK.gtk_tree_path_get_indices (data);
+			if (indices != 0) {
+				C.memmove (index, indices, 4);
+				rows.set (index [0]);
+			}
+			GTK.gtk_tree_path_free (data);
+			list = OS.g_list_next (list);
+		}
+		if (originalList != 0) OS.g_list_free (originalList);
+		selectedRows = rows;
+	}
+	return selectedRows;
+}
+
 /**
  * Returns an array of <code>TableItem</code>s that are currently
  * selected in the receiver. The order of the items is unspecified.
@@ -1793,31 +1925,13 @@ long getPixbufRenderer (long column) {
  */
 public TableItem [] getSelection () {
 	checkWidget();
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	long list = GTK.gtk_tree_selection_get_selected_rows (selection, null);
-	long originalList = list;
-	if (list != 0) {
-		int count = OS.g_list_length (list);
-		int [] treeSelection = new int [count];
-		int length = 0;
-		for (int i=0; i<count; i++) {
-			long data = OS.g_list_data (list);
-			long indices = GTK.gtk_tree_path_get_indices (data);
-			if (indices != 0) {
-				int [] index = new int [1];
-				C.memmove (index, indices, 4);
-				treeSelection [length] = index [0];
-				length++;
-			}
-			GTK.gtk_tree_path_free (data);
-			list = OS.g_list_next (list);
-		}
-		OS.g_list_free (originalList);
-		TableItem [] result = new TableItem [length];
-		for (int i=0; i<result.length; i++) result [i] = _getItem (treeSelection [i]);
-		return result;
+	BitSet rows = getSelectedRows ();
+	TableItem [] result = new TableItem [rows.cardinality ()];
+	int length = 0;
+	for (int index = rows.nextSetBit (0); index != -1; index = rows.nextSetBit (index + 1)) {
+		result [length++] = _getItem (index);
 	}
-	return new TableItem [0];
+	return result;
 }
 
 /**
@@ -1832,8 +1946,7 @@ public TableItem [] getSelection () {
  */
 public int getSelectionCount () {
 	checkWidget();
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	return GTK.gtk_tree_selection_count_selected_rows (selection);
+	return getSelectedRows ().cardinality ();
 }
 
 /**
@@ -1849,28 +1962,7 @@ public int getSelectionCount () {
  */
 public int getSelectionIndex () {
 	checkWidget();
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	long list = GTK.gtk_tree_selection_get_selected_rows (selection, null);
-	long originalList = list;
-	if (list != 0) {
-		int [] index = new int [1];
-		boolean foundIndex = false;
-		while (list != 0) {
-			long data = OS.g_list_data (list);
-			if (!foundIndex) {
-				long indices = GTK.gtk_tree_path_get_indices (data);
-				if (indices != 0) {
-					C.memmove (index, indices, 4);
-					foundIndex = true;
-				}
-			}
-			list = OS.g_list_next (list);
-			GTK.gtk_tree_path_free (data);
-		}
-		OS.g_list_free (originalList);
-		return index [0];
-	}
-	return -1;
+	return getSelectedRows ().nextSetBit (0);
 }
 
 /**
@@ -1891,31 +1983,7 @@ public int getSelectionIndex () {
  */
 public int [] getSelectionIndices () {
 	checkWidget();
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	long list = GTK.gtk_tree_selection_get_selected_rows (selection, null);
-	long originalList = list;
-	if (list != 0) {
-		int count = OS.g_list_length (list);
-		int [] treeSelection = new int [count];
-		int length = 0;
-		for (int i=0; i<count; i++) {
-			long data = OS.g_list_data (list);
-			long indices = GTK.gtk_tree_path_get_indices (data);
-			if (indices != 0) {
-				int [] index = new int [1];
-				C.memmove (index, indices, 4);
-				treeSelection [length] = index [0];
-				length++;
-			}
-			list = OS.g_list_next (list);
-			GTK.gtk_tree_path_free (data);
-		}
-		OS.g_list_free (originalList);
-		int [] result = new int [length];
-		System.arraycopy (treeSelection, 0, result, 0, length);
-		return result;
-	}
-	return new int [0];
+	return getSelectedRows ().stream ().toArray ();
 }
 
 /**
@@ -2108,6 +2176,7 @@ long gtk_button_press_event (long widget, long event) {
 				OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 				GTK.gtk_tree_view_set_cursor (handle, path [0], 0, false);
 				OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+				selectedRows = null;
 				GTK.gtk_tree_path_free (path [0]);
 			}
 		}
@@ -2278,6 +2347,7 @@ long gtk_button_release_event (long widget, long event) {
 
 @Override
 long gtk_changed (long widget) {
+	selectedRows = null;
 	TableItem item = getFocusItem ();
 	if (item != null) {
 		Event event = new Event ();
@@ -2318,6 +2388,40 @@ void drawInheritedBackground (long cairo) {
 	}
 }
 
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	OS.g_signal_handler_disconnect (modelHandle, updateHandler);
+	updateHandler = 0;
+	int signalId = OS.g_signal_lookup (OS.row_changed, GTK.gtk_tree_model_get_type ());
+	OS.g_signal_handlers_unblock_matched (modelHandle, OS.G_SIGNAL_MATCH_ID | OS.G_SIGNAL_MATCH_DATA, signalId, 0, 0, 0, handle);
+	if (updateItems == null) return;
+	TableItem [] changedItems = updateItems.toArray (new TableItem [updateItems.size ()]);
+	updateItems = null;
+	for (TableItem item : changedItems) {
+		if (item.isDisposed ()) continue;
+		long path = GTK.gtk_tree_model_get_path (modelHandle, item.handle);
+		OS.g_signal_emit_by_name (modelHandle, OS.row_changed, path, item.handle);
+		GTK.gtk_tree_path_free (path);
+	}
+}
+
 @Override
 long gtk_draw (long widget, long cairo) {
 	boolean haveBoundsChanged = boundsChangedSinceLastDraw;
@@ -2352,6 +2456,22 @@ long gtk_motion_notify_event (long widget, long event) {
 	return super.gtk_motion_notify_event (widget, event);
 }
 
+@Override
+long gtk_row_changed (long model, long path, long iter) {
+	/* Record the rows that change during an update, see blockRowChanged() */
+	long indices = GTK.gtk_tree_path_get_indices (path);
+	if (indices == 0) return 0;
+	int [] index = new int [1];
+	C.memmove (index, indices, 4);
+	if (index [0] >= itemCount) return 0;
+	TableItem item = items [index [0]];
+	if (item != null) {
+		if (updateItems == null) updateItems = new HashSet<> ();
+		updateItems.add (item);
+	}
+	return 0;
+}
+
 @Override
 long gtk_scroll_event (long widget, long eventPtr) {
 	long result = super.gtk_scroll_event(widget, eventPtr);
@@ -2479,23 +2599,32 @@ public int indexOf (TableColumn column) {
 public int indexOf (TableItem item) {
 	checkWidget();
 	if (item == null) error (SWT.ERROR_NULL_ARGUMENT);
-	if (1 <= lastIndexOf && lastIndexOf < itemCount - 1) {
-		if (items [lastIndexOf] == item) return lastIndexOf;
-		if (items [lastIndexOf + 1] == item) return ++lastIndexOf;
-		if (items [lastIndexOf - 1] == item) return --lastIndexOf;
-	}
-	if (lastIndexOf < itemCount / 2) {
-		for (int i=0; i<itemCount; i++) {
-			if (items [i] == item) return lastIndexOf = i;
-		}
-	} else {
-		for (int i=itemCount - 1; i>=0; --i) {
-			if (items [i] == item) return lastIndexOf = i;
-		}
+	int index = item.rowIndex;
+	if (0 <= index && index < itemCount && items [index] == item) return index;
+	if (item.parent != this || staleIndex >= itemCount) return -1;
+	/*
+	* Items that were moved by an insert or a remove are renumbered
+	* lazily, so that a batch of changes costs one pass over the items.
+	*/
+	for (int i=staleIndex; i<itemCount; i++) {
+		if (items [i] != null) items [i].rowIndex = i;
 	}
+	staleIndex = itemCount;
+	index = item.rowIndex;
+	if (0 <= index && index < itemCount && items [index] == item) return index;
 	return -1;
 }
 
+void insertSelectedRow (int index) {
+	/* Move the selected rows at and after the inserted row down */
+	if (selectedRows == null || index >= selectedRows.length ()) return;
+	BitSet rows = selectedRows.get (0, index);
+	for (int i = selectedRows.nextSetBit (index); i != -1; i = selectedRows.nextSetBit (i + 1)) {
+		rows.set (i + 1);
+	}
+	selectedRows = rows;
+}
+
 /**
  * Returns <code>true</code> if the item is selected,
  * and <code>false</code> otherwise.  Indices out of
@@ -2511,12 +2640,8 @@ public int indexOf (TableItem item) {
  */
 public boolean isSelected (int index) {
 	checkWidget();
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	byte [] buffer = Converter.wcsToMbcs (Integer.toString (index), true);
-	long path = GTK.gtk_tree_path_new_from_string (buffer);
-	boolean answer = GTK.gtk_tree_selection_path_is_selected (selection, path);
-	GTK.gtk_tree_path_free (path);
-	return answer;
+	if (!(0 <= index && index < itemCount)) return false;
+	return getSelectedRows ().get (index);
 }
 
 @Override
@@ -2581,6 +2706,14 @@ void recreateRenderers () {
 	}
 }
 
+@Override
+void redraw (boolean all) {
+	/* A full redraw asks MeasureItem listeners for the cell sizes again */
+	measureStamp++;
+	if (hooks (SWT.MeasureItem)) invalidatePack ();
+	super.redraw (all);
+}
+
 @Override
 void redrawBackgroundImage () {
 	Control control = findBackgroundControl ();
@@ -2620,6 +2753,37 @@ void releaseChildren (boolean destroy) {
 	super.releaseChildren (destroy);
 }
 
+void clearItems (int protectedPage) {
+	if (pageStamps == null) return;
+	int limit = Math.max (virtualItemLimit, MIN_VIRTUAL_ITEM_LIMIT) / 2;
+	int pageCount = Math.min ((itemCount + PAGE_SIZE - 1) / PAGE_SIZE, pageStamps.length);
+	long [] stamps = pageStamps;
+	int [] pages = ItemSorter.sort (pageCount, (page1, page2) -> Long.compare (stamps [page1], stamps [page2]));
+	for (int i=0; i<pageCount && virtualItemCount > limit; i++) {
+		int page = pages [i];
+		/* Keep the page that is being drawn and its neighbors */
+		if (Math.abs (page - protectedPage) <= 1) continue;
+		int start = page * PAGE_SIZE, end = Math.min (itemCount, start + PAGE_SIZE);
+		for (int j=start; j<end; j++) {
+			TableItem item = items [j];
+			if (item == null || !item.cached || item == currentItem || item.settingData) continue;
+			item.clear ();
+			virtualItemCount--;
+		}
+	}
+	/*
+	* Items that are removed from the table or populated by the application
+	* are not tracked by the count.  When no page is left to clear, recount
+	* the populated items.
+	*/
+	if (virtualItemCount > limit) {
+		virtualItemCount = 0;
+		for (int i=0; i<itemCount; i++) {
+			if (items [i] != null && items [i].cached) virtualItemCount++;
+		}
+	}
+}
+
 @Override
 void releaseWidget () {
 	super.releaseWidget ();
@@ -2667,6 +2831,8 @@ public void remove (int index) {
 		OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 		GTK.gtk_list_store_remove (modelHandle, iter);
 		OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+		removeSelectedRows (index, index);
+		staleIndex = Math.min (staleIndex, index);
 		System.arraycopy (items, index + 1, items, index, --itemCount - index);
 		items [itemCount] = null;
 	}
@@ -2701,22 +2867,84 @@ public void remove (int start, int end) {
 	}
 	checkSetDataInProcessBeforeRemoval(start, end + 1);
 	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	/*
+	* Feature in GTK.  The tree view handles row-deleted for every removed
+	* row, which is slow when many rows are removed.  The fix is to disconnect
+	* the model while removing and to restore the selection, the focus and
+	* the top index of the remaining rows afterwards.
+	*/
+	int count = end - start + 1;
+	boolean detach = count >= DETACH_MODEL_COUNT;
+	int [] selectedIndices = null;
+	int focusIndex = -1, top = 0;
+	if (detach) {
+		selectedIndices = getSelectionIndices ();
+		long [] path = new long [1];
+		GTK.gtk_tree_view_get_cursor (handle, path, null);
+		if (path [0] != 0) {
+			long indices = GTK.gtk_tree_path_get_indices (path [0]);
+			if (indices != 0) {
+				int [] index = new int [1];
+				C.memmove (index, indices, 4);
+				focusIndex = index [0];
+			}
+			GTK.gtk_tree_path_free (path [0]);
+		}
+		top = getTopIndex ();
+		GTK.gtk_tree_view_set_model (handle, 0);
+	}
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 	if (iter == 0) error (SWT.ERROR_NO_HANDLES);
-	int index = -1;
-	for (index = start; index <= end; index++) {
-		if (index == start) GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, index);
+	GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, start);
+	for (int index = start; index <= end; index++) {
 		TableItem item = items [index];
 		if (item != null && !item.isDisposed ()) item.release (false);
-		OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+		/* Removing the row moves the iterator to the next row */
 		GTK.gtk_list_store_remove (modelHandle, iter);
-		OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	}
 	OS.g_free (iter);
-	index = end + 1;
+	int index = end + 1;
+	staleIndex = Math.min (staleIndex, start);
 	System.arraycopy (items, index, items, start, itemCount - index);
 	for (int i=itemCount-(index-start); i<itemCount; i++) items [i] = null;
 	itemCount = itemCount - (index - start);
+	if (detach) {
+		GTK.gtk_tree_view_set_model (handle, modelHandle);
+		if (updateCount > 0) blockRowChanged ();
+		/* Setting the model clears the selection */
+		selectedRows = new BitSet ();
+		if (!searchEnabled ()) {
+			GTK.gtk_tree_view_set_search_column (handle, -1);
+		} else {
+			/* Set the search column whenever the model changes */
+			int firstColumn = columnCount == 0 ? FIRST_COLUMN : columns [0].modelIndex;
+			GTK.gtk_tree_view_set_search_column (handle, firstColumn + CELL_TEXT);
+		}
+		if (focusIndex != -1) {
+			selectFocusIndex (focusIndex < start ? focusIndex : Math.min (Math.max (start, focusIndex - count), itemCount - 1));
+			GTK.gtk_tree_selection_unselect_all (selection);
+			selectedRows.clear ();
+		}
+		int length = 0;
+		for (int i=0; i<selectedIndices.length; i++) {
+			int selected = selectedIndices [i];
+			if (selected < start) {
+				selectedIndices [length++] = selected;
+			} else if (selected > end) {
+				selectedIndices [length++] = selected - count;
+			}
+		}
+		if (length > 0) {
+			int [] newIndices = new int [length];
+			System.arraycopy (selectedIndices, 0, newIndices, 0, length);
+			select (newIndices);
+		}
+		setTopIndex (top < start ? top : Math.min (Math.max (start, top - count), itemCount - 1));
+	} else {
+		removeSelectedRows (start, end);
+	}
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 }
 
 /**
@@ -2767,6 +2995,8 @@ public void remove (int [] indices) {
 				OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 				GTK.gtk_list_store_remove (modelHandle, iter);
 				OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+				removeSelectedRows (index, index);
+				staleIndex = Math.min (staleIndex, index);
 				System.arraycopy (items, index + 1, items, index, --itemCount - index);
 				items [itemCount] = null;
 			}
@@ -2794,7 +3024,9 @@ public void removeAll () {
 		--index;
 	}
 	items = new TableItem [4];
-	itemCount = 0;
+	itemCount = staleIndex = 0;
+	virtualItemCount = 0;
+	pageStamps = null;
 	long selection = GTK.gtk_tree_view_get_selection (handle);
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	/*
@@ -2809,6 +3041,7 @@ public void removeAll () {
 	if (changeMode) GTK.gtk_tree_selection_set_mode(selectionHandle, GTK.GTK_SELECTION_MULTIPLE);
 
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	selectedRows = new BitSet ();
 
 	resetCustomDraw ();
 	if (!searchEnabled ()) {
@@ -2820,6 +3053,17 @@ public void removeAll () {
 	}
 }
 
+void removeSelectedRows (int start, int end) {
+	/* Move the selected rows after the removed rows up */
+	if (selectedRows == null || start >= selectedRows.length ()) return;
+	BitSet rows = selectedRows.get (0, start);
+	int count = end - start + 1;
+	for (int index = selectedRows.nextSetBit (end + 1); index != -1; index = selectedRows.nextSetBit (index + 1)) {
+		rows.set (index - count);
+	}
+	selectedRows = rows;
+}
+
 /**
  * Removes the listener from the collection of listeners who will
  * be notified when the user changes the receiver's selection.
@@ -2887,20 +3131,54 @@ void sendMeasureEvent (long cell, long width, long height) {
 				imageWidth = bounds.width;
 			}
 			contentWidth [0] += imageWidth;
-			GC gc = new GC (this);
-			gc.setFont (item.getFont (columnIndex));
-			Event event = new Event ();
-			event.item = item;
-			event.index = columnIndex;
-			event.gc = gc;
-			Rectangle eventRect = new Rectangle (0, 0, contentWidth [0], contentHeight [0]);
-			event.setBounds (DPIUtil.autoScaleDown (eventRect));
-			if (isSelected) event.detail = SWT.SELECTED;
-			sendEvent (SWT.MeasureItem, event);
-			gc.dispose ();
-			Rectangle rect = DPIUtil.autoScaleUp (event.getBounds ());
-			contentWidth [0] = rect.width - imageWidth;
-			if (contentHeight [0] < rect.height) contentHeight [0] = rect.height;
+			/*
+			* GTK asks for the size of every cell that is drawn.  When the
+			* application opted in with KEY_CACHE_MEASURE_ITEM, send
+			* MeasureItem only when the content, the data or the selection
+			* of the cell changed since it was last measured.
+			*/
+			int slot = columnIndex * MEASURE_SLOT;
+			int [] cache = measureCacheEnabled ? item.measureCache : null;
+			if (cache != null && item.measureStamp != measureStamp) cache = null;
+			int measuredWidth, measuredHeight;
+			if (cache != null && slot < cache.length && cache [slot] == 1
+				&& cache [slot + 1] == contentWidth [0] && cache [slot + 2] == contentHeight [0]
+				&& cache [slot + 3] == imageWidth && cache [slot + 4] == (isSelected ? 1 : 0)) {
+				measuredWidth = cache [slot + 5];
+				measuredHeight = cache [slot + 6];
+			} else {
+				GC gc = new GC (this);
+				gc.setFont (item.getFont (columnIndex));
+				Event event = new Event ();
+				event.item = item;
+				event.index = columnIndex;
+				event.gc = gc;
+				Rectangle eventRect = new Rectangle (0, 0, contentWidth [0], contentHeight [0]);
+				event.setBounds (DPIUtil.autoScaleDown (eventRect));
+				if (isSelected) event.detail = SWT.SELECTED;
+				sendEvent (SWT.MeasureItem, event);
+				gc.dispose ();
+				Rectangle rect = DPIUtil.autoScaleUp (event.getBounds ());
+				measuredWidth = rect.width;
+				measuredHeight = rect.height;
+				if (measureCacheEnabled && !item.isDisposed ()) {
+					if (cache == null || slot >= cache.length) {
+						int length = Math.max (Math.max (1, columnCount), columnIndex + 1) * MEASURE_SLOT;
+						cache = cache == null ? new int [length] : Arrays.copyOf (cache, length);
+					}
+					cache [slot] = 1;
+					cache [slot + 1] = contentWidth [0];
+					cache [slot + 2] = contentHeight [0];
+					cache [slot + 3] = imageWidth;
+					cache [slot + 4] = isSelected ? 1 : 0;
+					cache [slot + 5] = measuredWidth;
+					cache [slot + 6] = measuredHeight;
+					item.measureCache = cache;
+					item.measureStamp = measureStamp;
+				}
+			}
+			contentWidth [0] = measuredWidth - imageWidth;
+			if (contentHeight [0] < measuredHeight) contentHeight [0] = measuredHeight;
 			if (width != 0) C.memmove (width, contentWidth, 4);
 			if (height != 0) C.memmove (height, contentHeight, 4);
 			GTK.gtk_cell_renderer_set_fixed_size (cell, -1, contentHeight [0]);
@@ -3273,6 +3551,10 @@ public void select (int index) {
 	TableItem item = _getItem (index);
 	GTK.gtk_tree_selection_select_iter (selection, item.handle);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	if (selectedRows != null) {
+		if ((style & SWT.SINGLE) != 0) selectedRows.clear ();
+		selectedRows.set (index);
+	}
 	if (fixColumn) hideFirstColumn ();
 }
 
@@ -3308,11 +3590,15 @@ public void select (int start, int end) {
 	boolean fixColumn = showFirstColumn ();
 	long selection = GTK.gtk_tree_view_get_selection (handle);
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
-	for (int index=start; index<=end; index++) {
-		TableItem item = _getItem (index);
+	if (start == end) {
+		TableItem item = _getItem (start);
 		GTK.gtk_tree_selection_select_iter (selection, item.handle);
+		if (selectedRows != null && (style & SWT.SINGLE) != 0) selectedRows.clear ();
+	} else {
+		selectRange (selection, start, end, true);
 	}
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	if (selectedRows != null) selectedRows.set (start, end + 1);
 	if (fixColumn) hideFirstColumn ();
 }
 
@@ -3352,6 +3638,10 @@ public void select (int [] indices) {
 		if (!(0 <= index && index < itemCount)) continue;
 		TableItem item = _getItem (index);
 		GTK.gtk_tree_selection_select_iter (selection, item.handle);
+		if (selectedRows != null) {
+			if ((style & SWT.SINGLE) != 0) selectedRows.clear ();
+			selectedRows.set (index);
+		}
 	}
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	if (fixColumn) hideFirstColumn ();
@@ -3376,6 +3666,8 @@ public void selectAll () {
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	GTK.gtk_tree_selection_select_all (selection);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	selectedRows = new BitSet (itemCount);
+	selectedRows.set (0, itemCount);
 	if (fixColumn) hideFirstColumn ();
 }
 
@@ -3393,6 +3685,22 @@ void selectFocusIndex (int index) {
 	GTK.gtk_tree_view_set_cursor (handle, path, 0, false);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	GTK.gtk_tree_path_free (path);
+	selectedRows = new BitSet ();
+	selectedRows.set (index);
+}
+
+void selectRange (long selection, int start, int end, boolean select) {
+	long startPath = GTK.gtk_tree_path_new ();
+	GTK.gtk_tree_path_append_index (startPath, start);
+	long endPath = GTK.gtk_tree_path_new ();
+	GTK.gtk_tree_path_append_index (endPath, end);
+	if (select) {
+		GTK.gtk_tree_selection_select_range (selection, startPath, endPath);
+	} else {
+		GTK.gtk_tree_selection_unselect_range (selection, startPath, endPath);
+	}
+	GTK.gtk_tree_path_free (startPath);
+	GTK.gtk_tree_path_free (endPath);
 }
 
 @Override
@@ -3489,13 +3797,34 @@ public void setColumnOrder (int [] order) {
 	}
 }
 
+@Override
+public void setData (String key, Object value) {
+	super.setData (key, value);
+	if (KEY_CACHE_MEASURE_ITEM.equals (key)) {
+		/*
+		* With Boolean.TRUE, the bounds returned by MeasureItem listeners
+		* are remembered for each cell.  The event is sent again only when
+		* the text, image or font of the cell, the data or the selection of
+		* the item, the columns or the font of the table changed, or after a
+		* MeasureItem listener was added or the table was redrawn.
+		*/
+		measureCacheEnabled = Boolean.TRUE.equals (value);
+		measureStamp++;
+	}
+	if (KEY_VIRTUAL_ITEM_LIMIT.equals (key)) {
+		virtualItemLimit = value instanceof Integer limit ? limit : 0;
+	}
+}
+
 @Override
 void setFontDescription (long font) {
 	super.setFontDescription (font);
+	measureStamp++;
 	TableColumn[] columns = getColumns ();
 	for (int i = 0; i < columns.length; i++) {
 		if (columns[i] != null) {
 			columns[i].setFontDescription (font);
+			columns[i].invalidatePack ();
 		}
 	}
 }
@@ -3666,6 +3995,116 @@ public void setItemCount (int count) {
 	if (!isVirtual) setRedraw (true);
 }
 
+/**
+ * Sets the receiver's items to be the given rows of strings.
+ * All existing items are removed and one item is created for each
+ * row, with the strings of the row set as the text of the item's
+ * columns in order.  Strings that are <code>null</code> are ignored.
+ * <p>
+ * This is equivalent to removing all items, creating an item for
+ * each row and calling <code>TableItem.setText(String[])</code>,
+ * but is faster for large numbers of rows.
+ * </p>
+ *
+ * @param rows the strings of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rows array is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if a row in the rows array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see TableItem#setText(String[])
+ *
+ * @since 3.129
+ */
+public void setItems (String [][] rows) {
+	checkWidget ();
+	if (rows == null) error (SWT.ERROR_NULL_ARGUMENT);
+	for (int i=0; i<rows.length; i++) {
+		if (rows [i] == null) error (SWT.ERROR_INVALID_ARGUMENT);
+	}
+	removeAll ();
+	int count = rows.length;
+	items = new TableItem [Math.max (4, count)];
+	int stringCount = Math.max (1, columnCount);
+	int [] modelIndices = new int [stringCount];
+	for (int i=0; i<stringCount; i++) {
+		modelIndices [i] = (columnCount == 0 ? FIRST_COLUMN : columns [i].modelIndex) + CELL_TEXT;
+	}
+	/*
+	* Feature in GTK.  The tree view handles row-inserted and row-changed
+	* for every row and cell that is set.  The fix is to disconnect the
+	* model while the rows are added.  There is no selection, focus or
+	* scroll position to lose after removeAll().
+	*/
+	GTK.gtk_tree_view_set_model (handle, 0);
+	/* The rows with the longest texts, ordered by decreasing length */
+	TableItem [] widestItems = new TableItem [WIDTH_SAMPLE_SIZE];
+	int [] widestLengths = new int [WIDTH_SAMPLE_SIZE];
+	int widestCount = 0;
+	for (int i=0; i<count; i++) {
+		String [] row = rows [i];
+		TableItem item = new TableItem (this, SWT.NONE, i, true);
+		if ((style & SWT.VIRTUAL) != 0) virtualItemCount++;
+		item.cached = true;
+		int length = Math.min (row.length, stringCount);
+		for (int j=0; j<length; j++) {
+			String string = row [j];
+			if (string == null || string.isEmpty ()) continue;
+			if (item.strings == null) item.strings = new String [stringCount];
+			item.strings [j] = string;
+			if (string.length () > Item.TEXT_LIMIT) {
+				string = string.substring (0, Item.TEXT_LIMIT - Item.ELLIPSIS.length ()) + Item.ELLIPSIS;
+			}
+			byte [] buffer = Converter.wcsToMbcs (string, true);
+			GTK.gtk_list_store_set (modelHandle, item.handle, modelIndices [j], buffer, -1);
+		}
+		if (columnCount == 0 && length > 0 && row [0] != null) {
+			int textLength = row [0].length ();
+			if (widestCount < WIDTH_SAMPLE_SIZE || textLength > widestLengths [widestCount - 1]) {
+				int index = Math.min (widestCount, WIDTH_SAMPLE_SIZE - 1);
+				while (index > 0 && widestLengths [index - 1] < textLength) {
+					widestItems [index] = widestItems [index - 1];
+					widestLengths [index] = widestLengths [index - 1];
+					index--;
+				}
+				widestItems [index] = item;
+				widestLengths [index] = textLength;
+				widestCount = Math.min (widestCount + 1, WIDTH_SAMPLE_SIZE);
+			}
+		}
+	}
+	GTK.gtk_tree_view_set_model (handle, modelHandle);
+	if (updateCount > 0) {
+		/* The tree view shows the new rows from scratch */
+		updateItems = null;
+		blockRowChanged ();
+	}
+	if (!searchEnabled ()) {
+		GTK.gtk_tree_view_set_search_column (handle, -1);
+	} else {
+		/* Set the search column whenever the model changes */
+		int firstColumn = columnCount == 0 ? FIRST_COLUMN : columns [0].modelIndex;
+		GTK.gtk_tree_view_set_search_column (handle, firstColumn + CELL_TEXT);
+	}
+	/*
+	* Bug 465056: single column Tables have a very small initial width.
+	* Instead of measuring every row as TableItem.setText() does, measure
+	* the rows with the longest texts.  The widest row in pixels is not
+	* always the longest one in characters, so several rows are measured.
+	*/
+	if (widestCount > 0) {
+		long column = GTK.gtk_tree_view_get_column (handle, 0);
+		for (int i=0; i<widestCount; i++) {
+			maxWidth = Math.max (maxWidth, calculateWidth (column, widestItems [i].handle));
+		}
+	}
+}
+
 /**
  * Marks the receiver's lines as visible if the argument is <code>true</code>,
  * and marks it invisible otherwise. Note that some platforms draw grid lines
@@ -3694,6 +4133,13 @@ void setModel (long newModel) {
 	OS.g_object_unref (modelHandle);
 	modelHandle = newModel;
 	display.addWidget (modelHandle, this);
+	selectedRows = null;
+	if (updateCount > 0) {
+		/* The tree view shows the new model from scratch */
+		updateItems = null;
+		updateHandler = OS.g_signal_connect_closure (modelHandle, OS.row_changed, display.getClosure (ROW_CHANGED), false);
+		blockRowChanged ();
+	}
 }
 
 @Override
@@ -4118,6 +4564,77 @@ public void showSelection () {
 	showItem (item.handle);
 }
 
+/**
+ * Sorts the receiver's items using the given comparator.  The items
+ * are moved, not recreated, so the selection, the focus item and the
+ * attributes of each item are kept.  The sort is stable.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every item is requested before sorting.
+ * </p>
+ *
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (itemCount < 2) return;
+	for (int i=0; i<itemCount; i++) {
+		if (!checkData (_getItem (i))) error (SWT.ERROR_WIDGET_DISPOSED);
+	}
+	TableItem [] sorted = Arrays.copyOf (items, itemCount);
+	int [] newOrder = ItemSorter.sort (itemCount, (index1, index2) -> comparator.compare (sorted [index1], sorted [index2]));
+	for (int i=0; i<itemCount; i++) {
+		items [i] = sorted [newOrder [i]];
+		items [i].rowIndex = i;
+	}
+	staleIndex = itemCount;
+	/*
+	* Moving the rows keeps the selection and the cursor on the same
+	* rows.  Block the selection signal in case GTK emits it anyway.
+	*/
+	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	GTK.gtk_list_store_reorder (modelHandle, newOrder);
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	selectedRows = null;
+}
+
+void touchPage (int index) {
+	int pageCount = (itemCount + PAGE_SIZE - 1) / PAGE_SIZE;
+	if (pageStamps == null || pageStamps.length < pageCount) {
+		long [] newStamps = new long [pageCount];
+		if (pageStamps != null) System.arraycopy (pageStamps, 0, newStamps, 0, pageStamps.length);
+		pageStamps = newStamps;
+	}
+	int page = index / PAGE_SIZE;
+	pageStamps [page] = ++itemStamp;
+	drawnPage = page;
+	TableItem item = items [index];
+	if (!clearPending && (item == null || !item.cached) && virtualItemCount >= Math.max (virtualItemLimit, MIN_VIRTUAL_ITEM_LIMIT)) {
+		/*
+		* Clearing items sets values in the model, which must not happen
+		* while the tree view is drawing, so clear the items after the
+		* current paint has finished.
+		*/
+		clearPending = true;
+		display.asyncExec (() -> {
+			clearPending = false;
+			if (!isDisposed ()) clearItems (drawnPage);
+		});
+	}
+}
+
 @Override
 void updateScrollBarValue (ScrollBar bar) {
 	super.updateScrollBarValue (bar);
@@ -47,6 +47,13 @@ public class TableColumn extends Item {
 	int modelIndex, lastButton, lastTime, lastX, lastWidth;
 	boolean customDraw, useFixedWidth;
 	String toolTipText;
+	int packWidth = -1, packChangedCount;
+	TableItem packItem;
+	TableItem [] packChangedItems;
+	boolean packing;
+
+	static final int PACK_SAMPLE_SIZE = Integer.getInteger ("org.eclipse.swt.internal.gtk.packSampleSize", 0);
+	static final int PACK_CHANGE_LIMIT = 64;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -499,17 +506,104 @@ public void pack () {
 			}
 		}
 	} else {
-		long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
-		if (GTK.gtk_tree_model_get_iter_first (parent.modelHandle, iter)) {
-			do {
-				width = Math.max (width, parent.calculateWidth (handle, iter));
-			} while (GTK.gtk_tree_model_iter_next(parent.modelHandle, iter));
-		}
-		OS.g_free (iter);
+		width = Math.max (width, packCells ());
 	}
 	setWidthInPixels(width);
 }
 
+/*
+* Measuring every cell of a large table is slow.  The width and the item
+* of the widest cell are kept from the last pack.  The items whose cells
+* changed since then are collected and measured in batches, which keeps
+* the width current as long as the widest cell does not become narrower.
+* Only then, or when the font or the owner drawn sizes may have changed,
+* are all rows measured again.
+*/
+int packCells () {
+	if (packItem != null && packItem.isDisposed ()) invalidatePack ();
+	packChanged ();
+	if (packWidth == -1) {
+		packWidth = 0;
+		packItem = null;
+		TableItem [] items = parent.items;
+		int itemCount = parent.itemCount;
+		if (PACK_SAMPLE_SIZE > 0 && itemCount > PACK_SAMPLE_SIZE) {
+			/* Measure a sample of the rows and the rows that are visible */
+			int stride = itemCount / PACK_SAMPLE_SIZE;
+			for (int i=0; i<itemCount; i+=stride) {
+				packCell (items [i]);
+			}
+			int itemHeight = parent.getItemHeightInPixels ();
+			if (itemHeight > 0) {
+				int topIndex = parent.getTopIndex ();
+				int visibleCount = parent.getClientAreaInPixels ().height / itemHeight + 1;
+				int end = Math.min (itemCount, topIndex + visibleCount);
+				for (int i=topIndex; i<end; i++) {
+					packCell (items [i]);
+				}
+			}
+		} else {
+			for (int i=0; i<itemCount; i++) {
+				packCell (items [i]);
+			}
+		}
+	}
+	return packWidth;
+}
+
+void packCell (TableItem item) {
+	int cellWidth = parent.calculateWidth (handle, item.handle);
+	if (cellWidth > packWidth || packItem == null) {
+		packWidth = Math.max (packWidth, cellWidth);
+		packItem = item;
+	}
+}
+
+void packChanged () {
+	packing = true;
+	for (int i=0; i<packChangedCount; i++) {
+		TableItem item = packChangedItems [i];
+		packChangedItems [i] = null;
+		if (packWidth == -1 || item.isDisposed ()) continue;
+		int cellWidth = parent.calculateWidth (handle, item.handle);
+		if (item == packItem && cellWidth < packWidth) {
+			/* The widest cell became narrower, another cell may be the widest now */
+			packWidth = -1;
+			packItem = null;
+		} else if (cellWidth > packWidth) {
+			packWidth = cellWidth;
+			packItem = item;
+		}
+	}
+	packChangedCount = 0;
+	packing = false;
+}
+
+void cellChanged (TableItem item) {
+	if (packWidth == -1) return;
+	for (int i=0; i<packChangedCount; i++) {
+		if (packChangedItems [i] == item) return;
+	}
+	if (packChangedCount == PACK_CHANGE_LIMIT) {
+		/* A MeasureItem listener changed more items while they were measured */
+		if (packing) {
+			invalidatePack ();
+			return;
+		}
+		packChanged ();
+		if (packWidth == -1) return;
+	}
+	if (packChangedItems == null) packChangedItems = new TableItem [PACK_CHANGE_LIMIT];
+	packChangedItems [packChangedCount++] = item;
+}
+
+void invalidatePack () {
+	packWidth = -1;
+	packItem = null;
+	for (int i=0; i<packChangedCount; i++) packChangedItems [i] = null;
+	packChangedCount = 0;
+}
+
 @Override
 void register () {
 	super.register ();
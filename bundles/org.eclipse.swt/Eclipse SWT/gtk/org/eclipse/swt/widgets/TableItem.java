@@ -45,6 +45,9 @@ public class TableItem extends Item {
 	Font[] cellFont;
 	String [] strings;
 	boolean cached, grayed, settingData;
+	int [] measureCache;
+	int measureStamp;
+	int rowIndex;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -237,6 +240,7 @@ void clear () {
 	font = null;
 	cellFont = null;
 	strings = null;
+	parent.cellChanged (this, -1);
 }
 
 @Override
@@ -952,6 +956,20 @@ public void setChecked (boolean checked) {
 	*/
 	GTK.gtk_list_store_set (parent.modelHandle, handle, Table.GRAYED_COLUMN, !checked ? false : grayed, -1);
 	cached = true;
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
+}
+
+@Override
+public void setData (Object data) {
+	super.setData (data);
+	/* MeasureItem listeners may depend on the data of the item */
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
+}
+
+@Override
+public void setData (String key, Object value) {
+	super.setData (key, value);
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
 }
 
 /**
@@ -983,6 +1001,7 @@ public void setFont (Font font){
 	long fontHandle = font != null ? font.handle : 0;
 	GTK.gtk_list_store_set (parent.modelHandle, handle, Table.FONT_COLUMN, fontHandle, -1);
 	cached = true;
+	parent.cellChanged (this, -1);
 }
 
 /**
@@ -1024,6 +1043,7 @@ public void setFont (int index, Font font) {
 	long fontHandle  = font != null ? font.handle : 0;
 	GTK.gtk_list_store_set (parent.modelHandle, handle, modelIndex + Table.CELL_FONT, fontHandle, -1);
 	cached = true;
+	parent.cellChanged (this, index);
 
 	if (font != null) {
 		boolean customDraw = (parent.columnCount == 0)  ? parent.firstCustomDraw : parent.columns [index].customDraw;
@@ -1224,6 +1244,7 @@ public void setImage(int index, Image image) {
 				parent.pixbufHeight = iHeight;
 				parent.pixbufWidth = iWidth;
 				parent.pixbufSizeSet = true;
+				parent.invalidatePack ();
 			}
 		}
 	} else {
@@ -1248,6 +1269,7 @@ public void setImage(int index, Image image) {
 	}
 	GTK.gtk_list_store_set (parent.modelHandle, handle, modelIndex + Table.CELL_SURFACE, surface, -1);
 	cached = true;
+	parent.cellChanged (this, index);
 	/*
 	 * Bug 465056: single column Tables have a very small initial width.
 	 * Fix: when text or an image is set for a Table, compute its
@@ -1346,6 +1368,7 @@ public void setText (int index, String string) {
 	int modelIndex = parent.columnCount == 0 ? Table.FIRST_COLUMN : parent.columns [index].modelIndex;
 	GTK.gtk_list_store_set (parent.modelHandle, handle, modelIndex + Table.CELL_TEXT, buffer, -1);
 	cached = true;
+	parent.cellChanged (this, index);
 	/*
 	 * Bug 465056: single column Tables have a very small initial width.
 	 * Fix: when text or an image is set for a Table, compute its
@@ -88,7 +88,18 @@ public class Tree extends Composite {
 	int selectionCountOnPress,selectionCountOnRelease;
 	long ignoreCell;
 	TreeItem[] items;
-	int nextId;
+	int nextId, freeIdCount, measureStamp;
+	boolean measureCacheEnabled;
+	int updateCount, updateHandler;
+	Set<TreeItem> updateItems;
+	int [] freeIds;
+	TreeItem lastItem;
+	long lastItemHandle;
+	int [] iterData, lastIterData;
+	int pendingParentCount;
+	TreeItem pageCheckItem;
+	long pageIter;
+	boolean pagePending;
 	TreeColumn [] columns;
 	TreeColumn sortColumn;
 	TreeItem currentItem;
@@ -127,6 +138,10 @@ public class Tree extends Composite {
 	static final int CELL_FONT = 4;
 	static final int CELL_SURFACE = 5;
 	static final int CELL_TYPES = CELL_SURFACE + 1;
+	static final int MEASURE_SLOT = 7;
+	static final int CHILD_PAGE_SIZE = 256;
+	/* A GtkTreeIter is a gint stamp followed by three pointers */
+	static final int ITER_USER_DATA_OFFSET = GTK.GtkTreeIter_sizeof () - 3 * C.PTR_SIZEOF;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -178,11 +193,17 @@ void _addListener (int eventType, Listener listener) {
 				break;
 		}
 	}
+	if (eventType == SWT.MeasureItem) {
+		measureStamp++;
+		invalidatePack ();
+	}
 }
 
 TreeItem _getItem (long iter) {
+	TreeItem item = getLastItem (iter);
+	if (item != null) return item;
 	int id = getId (iter, true);
-	if (items [id] != null) return items [id];
+	if (items [id] != null) return setLastItem (items [id]);
 	long path = GTK.gtk_tree_model_get_path (modelHandle, iter);
 	int depth = GTK.gtk_tree_path_get_depth (path);
 	int [] indices = new int [depth];
@@ -196,13 +217,52 @@ TreeItem _getItem (long iter) {
 	items [id] = new TreeItem (this, parentIter, SWT.NONE, indices [indices.length -1], iter);
 	GTK.gtk_tree_path_free (path);
 	if (parentIter != 0) OS.g_free (parentIter);
-	return items [id];
+	return setLastItem (items [id]);
 }
 
 TreeItem _getItem (long parentIter, long iter, int index) {
+	TreeItem item = getLastItem (iter);
+	if (item != null) return item;
 	int id = getId (iter, true);
-	if (items [id] != null) return items [id];
-	return items [id] = new TreeItem (this, parentIter, SWT.NONE, index, iter);
+	if (items [id] == null) items [id] = new TreeItem (this, parentIter, SWT.NONE, index, iter);
+	return setLastItem (items [id]);
+}
+
+/*
+* Feature in GTK.  Reading the id of a row with gtk_tree_model_get()
+* is slow, and the cell data functions resolve the same row once for
+* every renderer.  The fix is to remember the iterator of the item that
+* was resolved last.  Tree store iterators persist while their row exists
+* and carry the stamp of the store, so a live item whose iterator has the
+* same stamp and user_data is the item of the row.  The padding after the
+* stamp and the user_data2 and user_data3 fields are not set by the tree
+* store and are not compared.
+*/
+TreeItem getLastItem (long iter) {
+	if (lastItem == null) return null;
+	if (lastItem.isDisposed () || lastItem.handle != lastItemHandle) {
+		lastItem = null;
+		return null;
+	}
+	C.memmove (iterData, iter, iterData.length * 4);
+	if (iterData [0] != lastIterData [0]) return null;
+	for (int i=ITER_USER_DATA_OFFSET / 4; i<iterData.length; i++) {
+		if (iterData [i] != lastIterData [i]) return null;
+	}
+	return lastItem;
+}
+
+TreeItem setLastItem (TreeItem item) {
+	if (lastIterData == null) {
+		/* The stamp, the padding and the user_data field */
+		int length = (ITER_USER_DATA_OFFSET + C.PTR_SIZEOF) / 4;
+		iterData = new int [length];
+		lastIterData = new int [length];
+	}
+	C.memmove (lastIterData, item.handle, lastIterData.length * 4);
+	lastItem = item;
+	lastItemHandle = item.handle;
+	return item;
 }
 
 void reallocateIds(int newSize) {
@@ -212,32 +272,25 @@ void reallocateIds(int newSize) {
 }
 
 int findAvailableId() {
-	// Adapt to cases where items[] array was resized since last search
-	// This also fixes cases where +1 below went too far
-	if (nextId >= items.length)
-		nextId = 0;
-
-	// Search from 'nextId' to end
-	for (int id = nextId; id < items.length; id++) {
-		if (items [id] == null) return id;
-	}
-
-	// Search from begin to nextId
-	for (int id = 0; id < nextId; id++) {
-		if (items [id] == null) return id;
-	}
+	/*
+	* Ids of released items are reused first.  Otherwise the next id
+	* that was never used is taken, growing items[] geometrically.
+	*/
+	if (freeIdCount > 0) return freeIds [--freeIdCount];
+	if (nextId >= items.length) reallocateIds ((items.length + 1) * 3 / 2);
+	return nextId++;
+}
 
-	// Still not found; no empty spots remaining
-	int newId = items.length;
-	if (drawCount <= 0) {
-		reallocateIds (items.length + 4);
-	} else {
-		// '.setRedraw(false)' is typically used during bulk operations.
-		// Reallocate to 1.5x the old size to avoid frequent reallocations.
-		reallocateIds ((items.length + 1) * 3 / 2);
+void releaseId (int id) {
+	if (items [id] == null) return;
+	items [id] = null;
+	if (freeIds == null) freeIds = new int [16];
+	if (freeIdCount == freeIds.length) {
+		int [] newIds = new int [freeIdCount * 3 / 2];
+		System.arraycopy (freeIds, 0, newIds, 0, freeIdCount);
+		freeIds = newIds;
 	}
-
-	return newId;
+	freeIds [freeIdCount++] = id;
 }
 
 int getId (long iter, boolean queryModel) {
@@ -248,7 +301,6 @@ int getId (long iter, boolean queryModel) {
 	}
 
 	int id = findAvailableId();
-	nextId = id + 1;
 
 	GTK.gtk_tree_store_set (modelHandle, iter, ID_COLUMN, id, -1);
 	return id;
@@ -276,6 +328,7 @@ static int checkStyle (int style) {
 long cellDataProc (long tree_column, long cell, long tree_model, long iter, long data) {
 	if (cell == ignoreCell) return 0;
 	TreeItem item = _getItem (iter);
+	if (pendingParentCount > 0 && item != pageCheckItem) checkPage (item, iter);
 	if (item != null) OS.g_object_set_qdata (cell, Display.SWT_OBJECT_INDEX2, item.handle);
 	boolean isPixbuf = GTK.GTK_IS_CELL_RENDERER_PIXBUF (cell);
 	boolean isText = GTK.GTK_IS_CELL_RENDERER_TEXT (cell);
@@ -439,6 +492,62 @@ public void addTreeListener(TreeListener listener) {
 	addTypedListener(listener, SWT.Expand, SWT.Collapse);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) {
+		updateHandler = OS.g_signal_connect_closure (modelHandle, OS.row_changed, display.getClosure (ROW_CHANGED), false);
+		blockRowChanged ();
+	}
+}
+
+void blockRowChanged () {
+	/*
+	* Feature in GTK.  The tree view invalidates, measures and redraws
+	* a row every time one of its cells is set.  The fix is to block the
+	* row-changed handler of the tree view during an update, to record
+	* the changed rows and to emit row-changed once for each of them
+	* when the update ends.  The tree view connects a new handler
+	* whenever the model is set, so this is done again after that.
+	*/
+	int signalId = OS.g_signal_lookup (OS.row_changed, GTK.gtk_tree_model_get_type ());
+	OS.g_signal_handlers_block_matched (modelHandle, OS.G_SIGNAL_MATCH_ID | OS.G_SIGNAL_MATCH_DATA, signalId, 0, 0, 0, handle);
+}
+
+void cellChanged (TreeItem item, int index) {
+	item.measureCache = null;
+	if (index == -1) {
+		for (int i=0; i<columnCount; i++) columns [i].cellChanged (item);
+	} else if (index < columnCount) {
+		columns [index].cellChanged (item);
+	}
+}
+
+void invalidatePack () {
+	for (int i=0; i<columnCount; i++) columns [i].invalidatePack ();
+}
+
 int calculateWidth (long column, long iter, boolean recurse) {
 	GTK.gtk_tree_view_column_cell_set_cell_data (column, modelHandle, iter, false, false);
 	/*
@@ -898,6 +1007,7 @@ int applyThemeBackground () {
 }
 
 void createItem (TreeColumn column, int index) {
+	measureStamp++;
 	if (!(0 <= index && index <= columnCount)) error (SWT.ERROR_INVALID_RANGE);
 	if (index == 0) {
 		// first column must be left aligned
@@ -1018,6 +1128,7 @@ void createItem (TreeItem item, long parentIter, int index) {
 	int id = getId (item.handle, false);
 	items [id] = item;
 	modelChanged = true;
+	cellChanged (item, -1);
 
 	if (parentIter == 0 ) {
 		/*
@@ -1144,6 +1255,7 @@ void createRenderers (long columnHandle, int modelIndex, boolean check, int colu
 void createWidget (int index) {
 	super.createWidget (index);
 	items = new TreeItem [4];
+	nextId = freeIdCount = 0;
 	columns = new TreeColumn [4];
 	columnCount = 0;
 	// In GTK 3 font description is inherited from parent widget which is not how SWT has always worked,
@@ -1212,6 +1324,7 @@ public void deselectAll() {
 }
 
 void destroyItem (TreeColumn column) {
+	measureStamp++;
 	int index = 0;
 	while (index < columnCount) {
 		if (columns [index] == column) break;
@@ -2494,6 +2607,40 @@ void drawInheritedBackground (long cairo) {
 	}
 }
 
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	OS.g_signal_handler_disconnect (modelHandle, updateHandler);
+	updateHandler = 0;
+	int signalId = OS.g_signal_lookup (OS.row_changed, GTK.gtk_tree_model_get_type ());
+	OS.g_signal_handlers_unblock_matched (modelHandle, OS.G_SIGNAL_MATCH_ID | OS.G_SIGNAL_MATCH_DATA, signalId, 0, 0, 0, handle);
+	if (updateItems == null) return;
+	TreeItem [] changedItems = updateItems.toArray (new TreeItem [updateItems.size ()]);
+	updateItems = null;
+	for (TreeItem item : changedItems) {
+		if (item.isDisposed ()) continue;
+		long path = GTK.gtk_tree_model_get_path (modelHandle, item.handle);
+		OS.g_signal_emit_by_name (modelHandle, OS.row_changed, path, item.handle);
+		GTK.gtk_tree_path_free (path);
+	}
+}
+
 @Override
 long gtk_draw (long widget, long cairo) {
 	boolean haveBoundsChanged = boundsChangedSinceLastDraw;
@@ -2528,6 +2675,20 @@ long gtk_motion_notify_event (long widget, long event) {
 	return super.gtk_motion_notify_event (widget, event);
 }
 
+@Override
+long gtk_row_changed (long model, long path, long iter) {
+	/* Record the rows that change during an update, see blockRowChanged() */
+	int [] index = new int [1];
+	GTK.gtk_tree_model_get (modelHandle, iter, ID_COLUMN, index, -1);
+	if (index [0] < 0 || index [0] >= items.length) return 0;
+	TreeItem item = items [index [0]];
+	if (item != null) {
+		if (updateItems == null) updateItems = new HashSet<> ();
+		updateItems.add (item);
+	}
+	return 0;
+}
+
 @Override
 long gtk_row_has_child_toggled (long model, long path, long iter) {
 	/*
@@ -2588,6 +2749,7 @@ long gtk_test_collapse_row (long tree, long iter, long path) {
 	modelChanged = oldModelChanged;
 	if (isDisposed () || item.isDisposed ()) return 1;
 	item.isExpanded = false;
+	invalidatePack ();
 	/*
 	* Bug in GTK.  Expanding or collapsing a row which has no more
 	* children causes the model state to become invalid, causing
@@ -2613,6 +2775,7 @@ long gtk_test_expand_row (long tree, long iter, long path) {
 	int [] index = new int [1];
 	GTK.gtk_tree_model_get (modelHandle, iter, ID_COLUMN, index, -1);
 	TreeItem item = items [index [0]];
+	appendItems (item, CHILD_PAGE_SIZE);
 	Event event = new Event ();
 	event.item = item;
 	boolean oldModelChanged = modelChanged;
@@ -2628,6 +2791,7 @@ long gtk_test_expand_row (long tree, long iter, long path) {
 	modelChanged = oldModelChanged;
 	if (isDisposed () || item.isDisposed ()) return 1;
 	item.isExpanded = true;
+	invalidatePack ();
 	/*
 	* Bug in GTK.  Expanding or collapsing a row which has no more
 	* children causes the model state to become invalid, causing
@@ -2857,6 +3021,14 @@ void recreateRenderers () {
 	}
 }
 
+@Override
+void redraw (boolean all) {
+	/* A full redraw asks MeasureItem listeners for the cell sizes again */
+	measureStamp++;
+	if (hooks (SWT.MeasureItem)) invalidatePack ();
+	super.redraw (all);
+}
+
 @Override
 void redrawBackgroundImage () {
 	Control control = findBackgroundControl ();
@@ -2878,7 +3050,7 @@ void releaseItem (TreeItem item, boolean release) {
 	GTK.gtk_tree_model_get (modelHandle, item.handle, ID_COLUMN, index, -1);
 	if (index [0] == -1) return;
 	if (release) item.release (false);
-	items [index [0]] = null;
+	releaseId (index [0]);
 }
 
 void releaseItems (long parentIter) {
@@ -2929,6 +3101,8 @@ void releaseWidget () {
 	modelHandle = 0;
 	if (checkRenderer != 0) OS.g_object_unref (checkRenderer);
 	checkRenderer = 0;
+	if (pageIter != 0) OS.g_free (pageIter);
+	pageIter = 0;
 	if (imageList != null) imageList.dispose ();
 	if (headerImageList != null) headerImageList.dispose ();
 	imageList = headerImageList = null;
@@ -2986,7 +3160,19 @@ public void removeAll () {
 	long selection = GTK.gtk_tree_view_get_selection (handle);
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 
+	/*
+	* Feature in GTK.  gtk_tree_store_clear() removes the rows one by one
+	* and the tree view handles row-deleted for each of them.  The fix is
+	* to disconnect the model while clearing it.  There is no selection,
+	* expansion or scroll position of the removed rows to keep.
+	*/
+	GTK.gtk_tree_view_set_model (handle, 0);
 	GTK.gtk_tree_store_clear (modelHandle);
+	GTK.gtk_tree_view_set_model (handle, modelHandle);
+	if (updateCount > 0) {
+		updateItems = null;
+		blockRowChanged ();
+	}
 
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 
@@ -2995,6 +3181,9 @@ public void removeAll () {
 		if (item != null && !item.isDisposed ()) item.release (false);
 	}
 	items = new TreeItem[4];
+	nextId = freeIdCount = 0;
+	lastItem = pageCheckItem = null;
+	pendingParentCount = 0;
 
 	if (!searchEnabled ()) {
 		GTK.gtk_tree_view_set_search_column (handle, -1);
@@ -3087,25 +3276,58 @@ void sendMeasureEvent (long cell, long width, long height) {
 				imageWidth = bounds.width;
 			}
 			contentWidth [0] += imageWidth;
-			GC gc = new GC (this);
-			gc.setFont (item.getFont (columnIndex));
-			Event event = new Event ();
-			event.item = item;
-			event.index = columnIndex;
-			event.gc = gc;
-			Rectangle eventRect = new Rectangle (0, 0, contentWidth [0], contentHeight [0]);
-			event.setBounds (DPIUtil.autoScaleDown (eventRect));
 			long path = GTK.gtk_tree_model_get_path (modelHandle, iter);
 			long selection = GTK.gtk_tree_view_get_selection (handle);
-			if (GTK.gtk_tree_selection_path_is_selected (selection, path)) {
-				event.detail = SWT.SELECTED;
-			}
+			boolean isSelected = GTK.gtk_tree_selection_path_is_selected (selection, path);
 			GTK.gtk_tree_path_free (path);
-			sendEvent (SWT.MeasureItem, event);
-			gc.dispose ();
-			Rectangle rect = DPIUtil.autoScaleUp (event.getBounds ());
-			contentWidth [0] = rect.width - imageWidth;
-			if (contentHeight [0] < rect.height) contentHeight [0] = rect.height;
+			/*
+			* GTK asks for the size of every cell that is drawn.  When the
+			* application opted in with KEY_CACHE_MEASURE_ITEM, send
+			* MeasureItem only when the content, the data or the selection
+			* of the cell changed since it was last measured.
+			*/
+			int slot = columnIndex * MEASURE_SLOT;
+			int [] cache = measureCacheEnabled ? item.measureCache : null;
+			if (cache != null && item.measureStamp != measureStamp) cache = null;
+			int measuredWidth, measuredHeight;
+			if (cache != null && slot < cache.length && cache [slot] == 1
+				&& cache [slot + 1] == contentWidth [0] && cache [slot + 2] == contentHeight [0]
+				&& cache [slot + 3] == imageWidth && cache [slot + 4] == (isSelected ? 1 : 0)) {
+				measuredWidth = cache [slot + 5];
+				measuredHeight = cache [slot + 6];
+			} else {
+				GC gc = new GC (this);
+				gc.setFont (item.getFont (columnIndex));
+				Event event = new Event ();
+				event.item = item;
+				event.index = columnIndex;
+				event.gc = gc;
+				Rectangle eventRect = new Rectangle (0, 0, contentWidth [0], contentHeight [0]);
+				event.setBounds (DPIUtil.autoScaleDown (eventRect));
+				if (isSelected) event.detail = SWT.SELECTED;
+				sendEvent (SWT.MeasureItem, event);
+				gc.dispose ();
+				Rectangle rect = DPIUtil.autoScaleUp (event.getBounds ());
+				measuredWidth = rect.width;
+				measuredHeight = rect.height;
+				if (measureCacheEnabled && !item.isDisposed ()) {
+					if (cache == null || slot >= cache.length) {
+						int length = Math.max (Math.max (1, columnCount), columnIndex + 1) * MEASURE_SLOT;
+						cache = cache == null ? new int [length] : Arrays.copyOf (cache, length);
+					}
+					cache [slot] = 1;
+					cache [slot + 1] = contentWidth [0];
+					cache [slot + 2] = contentHeight [0];
+					cache [slot + 3] = imageWidth;
+					cache [slot + 4] = isSelected ? 1 : 0;
+					cache [slot + 5] = measuredWidth;
+					cache [slot + 6] = measuredHeight;
+					item.measureCache = cache;
+					item.measureStamp = measureStamp;
+				}
+			}
+			contentWidth [0] = measuredWidth - imageWidth;
+			if (contentHeight [0] < measuredHeight) contentHeight [0] = measuredHeight;
 			if (width != 0) C.memmove (width, contentWidth, 4);
 			if (height != 0) C.memmove (height, contentHeight, 4);
 			GTK.gtk_cell_renderer_set_fixed_size (cell, -1, contentHeight [0]);
@@ -3526,6 +3748,78 @@ void setItemCount (long parentIter, int count) {
 	modelChanged = true;
 }
 
+/*
+* Feature in GTK.  Every child row of a VIRTUAL tree is a tree store
+* row, and inserting many of them blocks the UI.  The fix is to insert
+* the rows of an item in pages as they are needed: a single row for the
+* expander while the item is collapsed, a page when the item is expanded
+* and the next page when the last row of the item is drawn.  Asking for
+* a child item inserts the rows up to that item.
+*/
+void setItemCount (TreeItem item, int count) {
+	int itemCount = GTK.gtk_tree_model_iter_n_children (modelHandle, item.handle);
+	int insertCount = count;
+	if ((style & SWT.VIRTUAL) != 0 && count > itemCount) {
+		long path = GTK.gtk_tree_model_get_path (modelHandle, item.handle);
+		boolean expanded = GTK.gtk_tree_view_row_expanded (handle, path);
+		GTK.gtk_tree_path_free (path);
+		insertCount = Math.min (count, expanded ? itemCount + CHILD_PAGE_SIZE : Math.max (itemCount, 1));
+	}
+	setItemCount (item.handle, insertCount);
+	setPendingItemCount (item, count - insertCount);
+}
+
+void setPendingItemCount (TreeItem item, int count) {
+	if ((item.pendingItemCount == 0) != (count == 0)) {
+		pendingParentCount += count == 0 ? -1 : 1;
+	}
+	item.pendingItemCount = count;
+}
+
+void appendItems (TreeItem item, int count) {
+	count = Math.min (count, item.pendingItemCount);
+	if (count <= 0) return;
+	int itemCount = GTK.gtk_tree_model_iter_n_children (modelHandle, item.handle);
+	setPendingItemCount (item, item.pendingItemCount - count);
+	setItemCount (item.handle, itemCount + count);
+}
+
+void flushItems (TreeItem item) {
+	appendItems (item, item.pendingItemCount);
+}
+
+void flushItems (TreeItem item, int index) {
+	if (item.pendingItemCount == 0) return;
+	int missing = index + 1 - GTK.gtk_tree_model_iter_n_children (modelHandle, item.handle);
+	if (missing > 0) appendItems (item, Math.max (missing, CHILD_PAGE_SIZE));
+}
+
+/*
+* Inserts the next page of rows of the parent item when the last row of
+* an item with pending rows is drawn.  Inserting rows while the tree view
+* is drawing corrupts its state, so the page is inserted afterwards.
+*/
+void checkPage (TreeItem item, long iter) {
+	pageCheckItem = item;
+	int size = GTK.GtkTreeIter_sizeof ();
+	if (pageIter == 0) pageIter = OS.g_malloc (size);
+	C.memmove (pageIter, iter, size);
+	if (GTK.gtk_tree_model_iter_next (modelHandle, pageIter)) return;
+	long path = GTK.gtk_tree_model_get_path (modelHandle, iter);
+	boolean hasParent = GTK.gtk_tree_path_get_depth (path) > 1 && GTK.gtk_tree_path_up (path) && GTK.gtk_tree_model_get_iter (modelHandle, pageIter, path);
+	GTK.gtk_tree_path_free (path);
+	if (!hasParent || pagePending) return;
+	TreeItem parentItem = items [getId (pageIter, true)];
+	if (parentItem == null || parentItem.pendingItemCount == 0) return;
+	pagePending = true;
+	display.asyncExec (() -> {
+		pagePending = false;
+		pageCheckItem = null;
+		if (isDisposed () || parentItem.isDisposed ()) return;
+		appendItems (parentItem, CHILD_PAGE_SIZE);
+	});
+}
+
 /**
  * Sets the number of root-level items contained in the receiver.
  * <p>
@@ -3693,13 +3987,31 @@ public void setColumnOrder (int [] order) {
 	}
 }
 
+@Override
+public void setData (String key, Object value) {
+	super.setData (key, value);
+	if (KEY_CACHE_MEASURE_ITEM.equals (key)) {
+		/*
+		* With Boolean.TRUE, the bounds returned by MeasureItem listeners
+		* are remembered for each cell.  The event is sent again only when
+		* the text, image or font of the cell, the data or the selection of
+		* the item, the columns or the font of the tree changed, or after a
+		* MeasureItem listener was added or the tree was redrawn.
+		*/
+		measureCacheEnabled = Boolean.TRUE.equals (value);
+		measureStamp++;
+	}
+}
+
 @Override
 void setFontDescription (long font) {
 	super.setFontDescription (font);
+	measureStamp++;
 	TreeColumn[] columns = getColumns ();
 	for (int i = 0; i < columns.length; i++) {
 		if (columns[i] != null) {
 			columns[i].setFontDescription (font);
+			columns[i].invalidatePack ();
 		}
 	}
 }
@@ -3863,6 +4175,12 @@ void setModel (long newModel) {
 	OS.g_object_unref (modelHandle);
 	modelHandle = newModel;
 	display.addWidget (modelHandle, this);
+	if (updateCount > 0) {
+		/* The tree view shows the new model from scratch */
+		updateItems = null;
+		updateHandler = OS.g_signal_connect_closure (modelHandle, OS.row_changed, display.getClosure (ROW_CHANGED), false);
+		blockRowChanged ();
+	}
 }
 
 @Override
@@ -4154,6 +4472,57 @@ public void showSelection () {
 	if (items.length != 0 && items [0] != null) showItem (items [0]);
 }
 
+/**
+ * Sorts the items of the given parent item using the given comparator,
+ * or the root items if the parent item is <code>null</code>.  The items
+ * are moved together with their child items, not recreated, so the
+ * selection, the expanded state and the attributes of each item are
+ * kept.  The child items of the sorted items are not sorted.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every sorted item is requested before sorting.
+ * </p>
+ *
+ * @param parentItem the item whose child items are sorted, or <code>null</code>
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the parent item has been disposed or is not in the receiver</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (TreeItem parentItem, Comparator<TreeItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	long parentIter = 0;
+	if (parentItem != null) {
+		if (parentItem.isDisposed () || parentItem.parent != this) error (SWT.ERROR_INVALID_ARGUMENT);
+		flushItems (parentItem);
+		parentIter = parentItem.handle;
+	}
+	TreeItem [] sorted = getItems (parentIter);
+	int count = sorted.length;
+	if (count < 2) return;
+	for (int i=0; i<count; i++) {
+		if (!checkData (sorted [i])) error (SWT.ERROR_WIDGET_DISPOSED);
+	}
+	int [] newOrder = ItemSorter.sort (count, (index1, index2) -> comparator.compare (sorted [index1], sorted [index2]));
+	/*
+	* Moving the rows keeps the selection, the cursor and the expanded
+	* rows.  Block the selection signal in case GTK emits it anyway.
+	*/
+	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	GTK.gtk_tree_store_reorder (modelHandle, parentIter, newOrder);
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+}
+
 void showItem (long path, boolean scroll) {
 	int depth = GTK.gtk_tree_path_get_depth (path);
 	if (depth > 1) {
@@ -49,6 +49,13 @@ public class TreeColumn extends Item {
 	int modelIndex, lastTime, lastX, lastWidth;
 	boolean customDraw;
 	String toolTipText;
+	int packWidth = -1, packChangedCount;
+	TreeItem packItem;
+	TreeItem [] packChangedItems;
+	boolean packing;
+
+	static final int PACK_SAMPLE_SIZE = Integer.getInteger ("org.eclipse.swt.internal.gtk.packSampleSize", 0);
+	static final int PACK_CHANGE_LIMIT = 64;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -477,17 +484,141 @@ public void pack () {
 			}
 		}
 	} else {
-		long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
-		if (GTK.gtk_tree_model_get_iter_first (parent.modelHandle, iter)) {
-			do {
-				width = Math.max (width, parent.calculateWidth (handle, iter, true));
-			} while (GTK.gtk_tree_model_iter_next(parent.modelHandle, iter));
-		}
-		OS.g_free (iter);
+		width = Math.max (width, packCells ());
 	}
 	setWidthInPixels(width);
 }
 
+/*
+* Measuring every shown row of a large tree is slow.  The width and the
+* item of the widest cell are kept from the last pack.  The items whose
+* cells changed since then are collected and measured in batches, which
+* keeps the width current as long as the widest cell does not become
+* narrower.  Only then, when a row is expanded or collapsed, or when the
+* font or the owner drawn sizes may have changed, are all shown rows
+* measured again.
+*/
+int packCells () {
+	if (packItem != null && packItem.isDisposed ()) invalidatePack ();
+	packChanged ();
+	if (packWidth == -1) {
+		packWidth = 0;
+		packItem = null;
+		if (PACK_SAMPLE_SIZE > 0) {
+			/* Measure the first rows and the rows that are visible */
+			packRows (0, PACK_SAMPLE_SIZE);
+			int itemHeight = parent.getItemHeightInPixels ();
+			TreeItem topItem = parent.getTopItem ();
+			if (itemHeight > 0 && topItem != null) {
+				packVisibleRows (topItem, parent.getClientAreaInPixels ().height / itemHeight + 1);
+			}
+		} else {
+			packRows (0, Integer.MAX_VALUE);
+		}
+	}
+	return packWidth;
+}
+
+int packRows (long parentIter, int count) {
+	long modelHandle = parent.modelHandle;
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	boolean valid = GTK.gtk_tree_model_iter_children (modelHandle, iter, parentIter);
+	while (valid && count > 0) {
+		packCell (iter);
+		count--;
+		long path = GTK.gtk_tree_model_get_path (modelHandle, iter);
+		boolean expanded = GTK.gtk_tree_view_row_expanded (parent.handle, path);
+		GTK.gtk_tree_path_free (path);
+		if (expanded) count = packRows (iter, count);
+		valid = GTK.gtk_tree_model_iter_next (modelHandle, iter);
+	}
+	OS.g_free (iter);
+	return count;
+}
+
+void packVisibleRows (TreeItem topItem, int count) {
+	long modelHandle = parent.modelHandle;
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	long path = GTK.gtk_tree_model_get_path (modelHandle, topItem.handle);
+	while (count-- > 0 && GTK.gtk_tree_model_get_iter (modelHandle, iter, path)) {
+		packCell (iter);
+		if (GTK.gtk_tree_view_row_expanded (parent.handle, path)) {
+			GTK.gtk_tree_path_append_index (path, 0);
+		} else {
+			GTK.gtk_tree_path_next (path);
+			while (!GTK.gtk_tree_model_get_iter (modelHandle, iter, path) && GTK.gtk_tree_path_get_depth (path) > 1) {
+				GTK.gtk_tree_path_up (path);
+				GTK.gtk_tree_path_next (path);
+			}
+		}
+	}
+	GTK.gtk_tree_path_free (path);
+	OS.g_free (iter);
+}
+
+void packCell (long iter) {
+	int cellWidth = parent.calculateWidth (handle, iter, false);
+	if (cellWidth > packWidth || packItem == null) {
+		packWidth = Math.max (packWidth, cellWidth);
+		packItem = parent._getItem (iter);
+	}
+}
+
+boolean isShown (TreeItem item) {
+	long path = GTK.gtk_tree_model_get_path (parent.modelHandle, item.handle);
+	boolean shown = true;
+	while (shown && GTK.gtk_tree_path_up (path) && GTK.gtk_tree_path_get_depth (path) > 0) {
+		shown = GTK.gtk_tree_view_row_expanded (parent.handle, path);
+	}
+	GTK.gtk_tree_path_free (path);
+	return shown;
+}
+
+void packChanged () {
+	packing = true;
+	for (int i=0; i<packChangedCount; i++) {
+		TreeItem item = packChangedItems [i];
+		packChangedItems [i] = null;
+		if (packWidth == -1 || item.isDisposed () || !isShown (item)) continue;
+		int cellWidth = parent.calculateWidth (handle, item.handle, false);
+		if (item == packItem && cellWidth < packWidth) {
+			/* The widest cell became narrower, another cell may be the widest now */
+			packWidth = -1;
+			packItem = null;
+		} else if (cellWidth > packWidth) {
+			packWidth = cellWidth;
+			packItem = item;
+		}
+	}
+	packChangedCount = 0;
+	packing = false;
+}
+
+void cellChanged (TreeItem item) {
+	if (packWidth == -1) return;
+	for (int i=0; i<packChangedCount; i++) {
+		if (packChangedItems [i] == item) return;
+	}
+	if (packChangedCount == PACK_CHANGE_LIMIT) {
+		/* A MeasureItem listener changed more items while they were measured */
+		if (packing) {
+			invalidatePack ();
+			return;
+		}
+		packChanged ();
+		if (packWidth == -1) return;
+	}
+	if (packChangedItems == null) packChangedItems = new TreeItem [PACK_CHANGE_LIMIT];
+	packChangedItems [packChangedCount++] = item;
+}
+
+void invalidatePack () {
+	packWidth = -1;
+	packItem = null;
+	for (int i=0; i<packChangedCount; i++) packChangedItems [i] = null;
+	packChangedCount = 0;
+}
+
 @Override
 void register () {
 	super.register ();
@@ -45,6 +45,8 @@ public class TreeItem extends Item {
 	Font[] cellFont;
 	String [] strings;
 	boolean cached, grayed, isExpanded, updated, settingData;
+	int pendingItemCount, measureStamp;
+	int [] measureCache;
 	static final int EXPANDER_EXTRA_PADDING = 4;
 
 /**
@@ -129,7 +131,7 @@ public TreeItem (Tree parent, int style, int index) {
  * @see Widget#getStyle
  */
 public TreeItem (TreeItem parentItem, int style) {
-	this (checkNull (parentItem).parent, parentItem.handle, style, -1, 0);
+	this (checkItems (parentItem).parent, parentItem.handle, style, -1, 0);
 }
 
 /**
@@ -158,7 +160,7 @@ public TreeItem (TreeItem parentItem, int style) {
  * @see Tree#setRedraw
  */
 public TreeItem (TreeItem parentItem, int style, int index) {
-	this (checkNull (parentItem).parent, parentItem.handle, style, checkIndex (index), 0);
+	this (checkItems (parentItem, index).parent, parentItem.handle, style, checkIndex (index), 0);
 }
 
 TreeItem (Tree parent, long parentIter, int style, int index, long iter) {
@@ -184,6 +186,19 @@ static TreeItem checkNull (TreeItem item) {
 	return item;
 }
 
+static TreeItem checkItems (TreeItem item) {
+	checkNull (item);
+	if (!item.isDisposed ()) item.parent.flushItems (item);
+	return item;
+}
+
+static TreeItem checkItems (TreeItem item, int index) {
+	checkNull (item);
+	/* Only the rows before the index are needed to insert the item */
+	if (!item.isDisposed ()) item.parent.flushItems (item, index - 1);
+	return item;
+}
+
 static Tree checkNull (Tree control) {
 	if (control == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
 	return control;
@@ -293,6 +308,7 @@ void clear () {
 	font = null;
 	strings = null;
 	cellFont = null;
+	parent.cellChanged (this, -1);
 }
 
 /**
@@ -320,6 +336,7 @@ void clear () {
  */
 public void clear (int index, boolean all) {
 	checkWidget ();
+	parent.flushItems (this, index);
 	parent.clear (handle, index, all);
 }
 
@@ -770,7 +787,7 @@ Rectangle getImageBoundsInPixels (int index) {
 public int getItemCount () {
 	checkWidget();
 	if (!parent.checkData (this)) error (SWT.ERROR_WIDGET_DISPOSED);
-	return GTK.gtk_tree_model_iter_n_children (parent.modelHandle, handle);
+	return GTK.gtk_tree_model_iter_n_children (parent.modelHandle, handle) + pendingItemCount;
 }
 
 /**
@@ -794,6 +811,7 @@ public TreeItem getItem (int index) {
 	checkWidget();
 	if (index < 0) error (SWT.ERROR_INVALID_RANGE);
 	if (!parent.checkData (this)) error (SWT.ERROR_WIDGET_DISPOSED);
+	parent.flushItems (this, index);
 
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 	try {
@@ -823,6 +841,7 @@ public TreeItem getItem (int index) {
 public TreeItem [] getItems () {
 	checkWidget();
 	if (!parent.checkData (this)) error (SWT.ERROR_WIDGET_DISPOSED);
+	parent.flushItems (this);
 	return parent.getItems (handle);
 }
 
@@ -1035,26 +1054,32 @@ public int indexOf (TreeItem item) {
 	checkWidget();
 	if (item == null) error (SWT.ERROR_NULL_ARGUMENT);
 	if (item.isDisposed()) error (SWT.ERROR_INVALID_ARGUMENT);
-	int index = -1;
-	boolean isParent = false;
+	if (item.parent != parent) return -1;
+	/*
+	* Feature in GTK.  Computing the path of a tree store row walks the
+	* siblings that precede it on every level.  The fix is to compute the
+	* paths of the receiver and of the item only once, and to compare
+	* their indices instead of the parent path.
+	*/
 	long currentPath = GTK.gtk_tree_model_get_path (parent.modelHandle, handle);
-	long parentPath = GTK.gtk_tree_model_get_path (parent.modelHandle, item.handle);
-	int depth = GTK.gtk_tree_path_get_depth (parentPath);
-	if (depth > 1 && GTK.gtk_tree_path_up(parentPath)) {
-		if (GTK.gtk_tree_path_compare(currentPath, parentPath) == 0) isParent = true;
-	}
-	GTK.gtk_tree_path_free (currentPath);
-	GTK.gtk_tree_path_free (parentPath);
-	if (!isParent) return index;
 	long path = GTK.gtk_tree_model_get_path (parent.modelHandle, item.handle);
-	if (depth > 1) {
-		long indices = GTK.gtk_tree_path_get_indices (path);
-		if (indices != 0) {
-			int[] temp = new int[depth];
-			C.memmove (temp, indices, 4 * temp.length);
-			index = temp[temp.length - 1];
+	int currentDepth = GTK.gtk_tree_path_get_depth (currentPath);
+	int depth = GTK.gtk_tree_path_get_depth (path);
+	int index = -1;
+	if (depth == currentDepth + 1) {
+		int [] currentIndices = new int [currentDepth];
+		int [] indices = new int [depth];
+		C.memmove (currentIndices, GTK.gtk_tree_path_get_indices (currentPath), 4 * currentDepth);
+		C.memmove (indices, GTK.gtk_tree_path_get_indices (path), 4 * depth);
+		index = indices [currentDepth];
+		for (int i=0; i<currentDepth; i++) {
+			if (currentIndices [i] != indices [i]) {
+				index = -1;
+				break;
+			}
 		}
 	}
+	GTK.gtk_tree_path_free (currentPath);
 	GTK.gtk_tree_path_free (path);
 	return index;
 }
@@ -1078,6 +1103,7 @@ void releaseHandle () {
 @Override
 void releaseWidget () {
 	super.releaseWidget ();
+	if (pendingItemCount > 0) parent.setPendingItemCount (this, 0);
 	font = null;
 	cellFont = null;
 	strings = null;
@@ -1106,6 +1132,7 @@ public void dispose () {
  */
 public void removeAll () {
 	checkWidget ();
+	parent.setPendingItemCount (this, 0);
 	long modelHandle = parent.modelHandle;
 	int length = GTK.gtk_tree_model_iter_n_children (modelHandle, handle);
 	if (length == 0) return;
@@ -1235,6 +1262,7 @@ public void setChecked (boolean checked) {
 	*/
 	GTK.gtk_tree_store_set (parent.modelHandle, handle, Tree.GRAYED_COLUMN, !checked ? false : grayed, -1);
 	cached = true;
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
 }
 
 /**
@@ -1252,6 +1280,7 @@ public void setExpanded (boolean expanded) {
 	long path = GTK.gtk_tree_model_get_path (parent.modelHandle, handle);
 	if (expanded != GTK.gtk_tree_view_row_expanded (parent.handle, path)) {
 		if (expanded) {
+			parent.appendItems (this, Tree.CHILD_PAGE_SIZE);
 			OS.g_signal_handlers_block_matched (parent.handle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, TEST_EXPAND_ROW);
 			GTK.gtk_tree_view_expand_row (parent.handle, path, false);
 			OS.g_signal_handlers_unblock_matched (parent.handle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, TEST_EXPAND_ROW);
@@ -1261,12 +1290,26 @@ public void setExpanded (boolean expanded) {
 			GTK.gtk_tree_view_collapse_row (parent.handle, path);
 			OS.g_signal_handlers_unblock_matched (parent.handle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, TEST_COLLAPSE_ROW);
 		}
+		parent.invalidatePack ();
 	}
 	GTK.gtk_tree_path_free (path);
 	isExpanded = expanded;
 }
 
 
+@Override
+public void setData (Object data) {
+	super.setData (data);
+	/* MeasureItem listeners may depend on the data of the item */
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
+}
+
+@Override
+public void setData (String key, Object value) {
+	super.setData (key, value);
+	if (parent.hooks (SWT.MeasureItem)) parent.cellChanged (this, -1);
+}
+
 /**
  * Sets the font that the receiver will use to paint textual information
  * for this item to the font specified by the argument, or to the default font
@@ -1296,6 +1339,7 @@ public void setFont (Font font){
 	long fontHandle = font != null ? font.handle : 0;
 	GTK.gtk_tree_store_set (parent.modelHandle, handle, Tree.FONT_COLUMN, fontHandle, -1);
 	cached = true;
+	parent.cellChanged (this, -1);
 }
 
 /**
@@ -1337,6 +1381,7 @@ public void setFont (int index, Font font) {
 	long fontHandle  = font != null ? font.handle : 0;
 	GTK.gtk_tree_store_set (parent.modelHandle, handle, modelIndex + Tree.CELL_FONT, fontHandle, -1);
 	cached = true;
+	parent.cellChanged (this, index);
 
 	if (font != null) {
 		boolean customDraw = (parent.columnCount == 0)  ? parent.firstCustomDraw : parent.columns [index].customDraw;
@@ -1541,6 +1586,7 @@ public void setImage(int index, Image image) {
 				parent.pixbufSizeSet = true;
 				parent.pixbufHeight = iHeight;
 				parent.pixbufWidth = iWidth;
+				parent.invalidatePack ();
 				/*
 				 * Feature in GTK: a Tree with the style SWT.VIRTUAL has
 				 * fixed-height-mode enabled. This will limit the size of
@@ -1583,6 +1629,7 @@ public void setImage(int index, Image image) {
 	GTK.gtk_tree_store_set(parent.modelHandle, handle, modelIndex + Tree.CELL_SURFACE, surface, -1);
 	cached = true;
 	updated = true;
+	parent.cellChanged (this, index);
 	this.surface = surface;
 }
 
@@ -1639,7 +1686,7 @@ public void setImage (Image [] images) {
 public void setItemCount (int count) {
 	checkWidget ();
 	count = Math.max (0, count);
-	parent.setItemCount (handle, count);
+	parent.setItemCount (this, count);
 }
 
 /**
@@ -1684,6 +1731,7 @@ public void setText (int index, String string) {
 	GTK.gtk_tree_store_set (parent.modelHandle, handle, modelIndex + Tree.CELL_TEXT, buffer, -1);
 	cached = true;
 	updated = true;
+	parent.cellChanged (this, index);
 }
 
 @Override
@@ -244,11 +244,14 @@ public abstract class Widget {
 	static final int NOTIFY_DEFAULT_WIDTH = 106;
 	static final int NOTIFY_MAXIMIZED = 107;
 	static final int COMPUTE_SIZE = 108;
-	static final int LAST_SIGNAL = 109;
+	static final int ROW_CHANGED = 109;
+	static final int LAST_SIGNAL = 110;
 
 	static final String IS_ACTIVE = "org.eclipse.swt.internal.control.isactive"; //$NON-NLS-1$
 	static final String KEY_CHECK_SUBWINDOW = "org.eclipse.swt.internal.control.checksubwindow"; //$NON-NLS-1$
 	static final String KEY_GTK_CSS = "org.eclipse.swt.internal.gtk.css"; //$NON-NLS-1$
+	static final String KEY_CACHE_MEASURE_ITEM = "org.eclipse.swt.internal.gtk.cacheMeasureItem"; //$NON-NLS-1$
+	static final String KEY_VIRTUAL_ITEM_LIMIT = "org.eclipse.swt.internal.gtk.virtualItemLimit"; //$NON-NLS-1$
 
 	static Callback gdkSeatGrabPrepareFunc;
 
@@ -1074,6 +1077,10 @@ long gtk_row_activated (long tree, long path, long column) {
 	// 'row-activated' is triggered. See Bug 312568, 518414.
 }
 
+long gtk_row_changed (long model, long path, long iter) {
+	return 0;
+}
+
 long gtk_row_has_child_toggled (long model, long path, long iter) {
 	return 0;
 }
@@ -2623,6 +2630,7 @@ long windowProc (long handle, long arg0, long arg1, long user_data) {
 		case TEST_COLLAPSE_ROW: return gtk_test_collapse_row (handle, arg0, arg1);
 		case TEST_EXPAND_ROW: return gtk_test_expand_row(handle, arg0, arg1);
 		case ROW_HAS_CHILD_TOGGLED: return gtk_row_has_child_toggled(handle, arg0, arg1);
+		case ROW_CHANGED: return gtk_row_changed (handle, arg0, arg1);
 		default: return 0;
 	}
 }
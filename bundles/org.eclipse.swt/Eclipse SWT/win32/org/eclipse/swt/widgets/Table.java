@@ -16,7 +16,7 @@
 package org.eclipse.swt.widgets;
 
 
-//import java.util.*;
+import java.util.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
@@ -79,6 +79,7 @@ public class Table extends Composite {
 	int [] keys;
 	TableColumn [] columns;
 	int columnCount, customCount, keyCount;
+	int updateCount;
 	ImageList imageList, headerImageList;
 	TableItem currentItem;
 	TableColumn sortColumn;
@@ -446,6 +447,55 @@ public void addSelectionListener (SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) setRedraw (false);
+}
+
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	setRedraw (true);
+}
+
 @Override
 long callWindowProc (long hwnd, int msg, long wParam, long lParam) {
 	return callWindowProc (hwnd, msg, wParam, lParam, false);
@@ -4592,6 +4642,47 @@ public void setItemCount (int count) {
 	setDeferResize (false);
 }
 
+/**
+ * Sets the receiver's items to be the given rows of strings.
+ * All existing items are removed and one item is created for each
+ * row, with the strings of the row set as the text of the item's
+ * columns in order.  Strings that are <code>null</code> are ignored.
+ * <p>
+ * This is equivalent to removing all items, creating an item for
+ * each row and calling <code>TableItem.setText(String[])</code>,
+ * but is faster for large numbers of rows.
+ * </p>
+ *
+ * @param rows the strings of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rows array is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if a row in the rows array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see TableItem#setText(String[])
+ *
+ * @since 3.129
+ */
+public void setItems (String [][] rows) {
+	checkWidget ();
+	if (rows == null) error (SWT.ERROR_NULL_ARGUMENT);
+	for (int i=0; i<rows.length; i++) {
+		if (rows [i] == null) error (SWT.ERROR_INVALID_ARGUMENT);
+	}
+	setRedraw (false);
+	removeAll ();
+	setItemCount (rows.length);
+	for (int i=0; i<rows.length; i++) {
+		getItem (i).setText (rows [i]);
+	}
+	setRedraw (true);
+}
+
 void setItemHeight (boolean fixScroll) {
 	/*
 	* Bug in Windows.  Making any change to an item that
@@ -5413,6 +5504,64 @@ public void showSelection () {
 	}
 }
 
+/**
+ * Sorts the receiver's items using the given comparator.  The items
+ * are moved, not recreated, so the selection, the focus item and the
+ * attributes of each item are kept.  The sort is stable.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every item is requested before sorting.
+ * </p>
+ *
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = (int)OS.SendMessage (handle, OS.LVM_GETITEMCOUNT, 0, 0);
+	if (count < 2) return;
+	TableItem [] sorted = new TableItem [count];
+	for (int i=0; i<count; i++) {
+		TableItem item = _getItem (i);
+		if (!checkData (item, i, false)) error (SWT.ERROR_WIDGET_DISPOSED);
+		sorted [i] = item;
+	}
+	boolean [] selected = new boolean [count];
+	int index = -1;
+	while ((index = (int)OS.SendMessage (handle, OS.LVM_GETNEXTITEM, index, OS.LVNI_SELECTED)) != -1) {
+		selected [index] = true;
+	}
+	int focusIndex = getFocusIndex ();
+	int [] order = ItemSorter.sort (count, (index1, index2) -> comparator.compare (sorted [index1], sorted [index2]));
+	/*
+	* The text, images and check state of the items are supplied by
+	* callbacks, so only the items and the selection need to move.
+	* Every item exists at this point, so the keys are the indices.
+	*/
+	int [] indices = new int [count];
+	int selectedCount = 0, newFocusIndex = -1;
+	for (int i=0; i<count; i++) {
+		int oldIndex = order [i];
+		items [i] = sorted [oldIndex];
+		if (selected [oldIndex]) indices [selectedCount++] = i;
+		if (oldIndex == focusIndex) newFocusIndex = i;
+	}
+	deselectAll ();
+	select (Arrays.copyOf (indices, selectedCount));
+	setFocusIndex (newFocusIndex);
+	OS.InvalidateRect (handle, null, true);
+}
+
 /*public*/ void sort () {
 	checkWidget ();
 //	if ((style & SWT.VIRTUAL) != 0) return;
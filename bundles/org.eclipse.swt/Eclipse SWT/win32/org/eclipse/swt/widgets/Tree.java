@@ -14,6 +14,8 @@
 package org.eclipse.swt.widgets;
 
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -84,10 +86,12 @@ public class Tree extends Composite {
 	ImageList imageList, headerImageList;
 	TreeItem currentItem;
 	TreeColumn sortColumn;
+	Comparator<TreeItem> sortComparator;
 	RECT focusRect;
 	long hwndParent, hwndHeader, hAnchor, hInsert, hSelect;
 	int lastID;
 	int sortDirection;
+	int updateCount;
 	boolean dragStarted, gestureCompleted, insertAfter, shrink, ignoreShrink;
 	boolean ignoreSelect, ignoreExpand, ignoreDeselect, ignoreResize;
 	boolean lockSelection, oldSelected, newSelected, ignoreColumnMove, ignoreColumnResize;
@@ -378,6 +382,55 @@ public void addTreeListener(TreeListener listener) {
 	addTypedListener(listener, SWT.Expand, SWT.Collapse);
 }
 
+/**
+ * Starts a batch of changes to the items of the receiver.
+ * <p>
+ * Until the matching call to <code>endUpdate()</code>, the receiver may
+ * defer updating the rows of items whose attributes change, and update
+ * each changed row once when the batch ends.  This is faster when many
+ * attributes of many items change at once, for example when the
+ * receiver shows live data.
+ * </p><p>
+ * Calls to <code>beginUpdate()</code> nest, and each call must be
+ * matched by a call to <code>endUpdate()</code>.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endUpdate()
+ *
+ * @since 3.129
+ */
+public void beginUpdate () {
+	checkWidget ();
+	if (updateCount++ == 0) setRedraw (false);
+}
+
+/**
+ * Ends a batch of changes to the items of the receiver that was
+ * started by <code>beginUpdate()</code>.  When the last nested batch
+ * ends, the rows of the items that changed during the batch are
+ * updated.  Calls that are not matched by <code>beginUpdate()</code>
+ * are ignored.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginUpdate()
+ *
+ * @since 3.129
+ */
+public void endUpdate () {
+	checkWidget ();
+	if (updateCount == 0 || --updateCount != 0) return;
+	setRedraw (true);
+}
+
 @Override
 long borderHandle () {
 	return hwndParent != 0 ? hwndParent : handle;
@@ -1817,6 +1870,7 @@ void clearAll (long hItem, TVITEM tvItem, boolean all) {
 
 long CompareFunc (long lParam1, long lParam2, long lParamSort) {
 	TreeItem item1 = items [(int)lParam1], item2 = items [(int)lParam2];
+	if (sortComparator != null) return sortComparator.compare (item1, item2);
 	String text1 = item1.getText ((int)lParamSort), text2 = item2.getText ((int)lParamSort);
 	return sortDirection == SWT.UP ? text1.compareTo (text2) : text2.compareTo (text1);
 }
@@ -5578,6 +5632,67 @@ public void showSelection () {
 	if (hItem != 0) showItem (hItem);
 }
 
+/**
+ * Sorts the items of the given parent item using the given comparator,
+ * or the root items if the parent item is <code>null</code>.  The items
+ * are moved together with their child items, not recreated, so the
+ * selection, the expanded state and the attributes of each item are
+ * kept.  The child items of the sorted items are not sorted.
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * the data of every sorted item is requested before sorting.
+ * </p>
+ *
+ * @param parentItem the item whose child items are sorted, or <code>null</code>
+ * @param comparator the comparator that orders the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the parent item has been disposed or is not in the receiver</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed, or if the receiver or an item was disposed while the data of the items was requested</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.129
+ */
+public void sort (TreeItem parentItem, Comparator<TreeItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	long hParent = OS.TVI_ROOT;
+	if (parentItem != null) {
+		if (parentItem.isDisposed () || parentItem.parent != this) error (SWT.ERROR_INVALID_ARGUMENT);
+		hParent = parentItem.handle;
+	}
+	if ((style & SWT.VIRTUAL) != 0) {
+		/* Create the items so that every child has an id to compare */
+		int index = 0;
+		long hItem;
+		if (parentItem == null) {
+			hItem = OS.SendMessage (handle, OS.TVM_GETNEXTITEM, OS.TVGN_ROOT, 0);
+		} else {
+			hItem = OS.SendMessage (handle, OS.TVM_GETNEXTITEM, OS.TVGN_CHILD, hParent);
+		}
+		while (hItem != 0) {
+			if (!checkData (_getItem (hItem), index++, false)) error (SWT.ERROR_WIDGET_DISPOSED);
+			hItem = OS.SendMessage (handle, OS.TVM_GETNEXTITEM, OS.TVGN_NEXT, hItem);
+		}
+	}
+	cachedFirstItem = cachedIndexItem = 0;
+	Callback compareCallback = new Callback (this, "CompareFunc", 3);
+	TVSORTCB psort = new TVSORTCB ();
+	psort.hParent = hParent;
+	psort.lpfnCompare = compareCallback.getAddress ();
+	sortComparator = comparator;
+	try {
+		OS.SendMessage (handle, OS.TVM_SORTCHILDRENCB, 0, psort);
+	} finally {
+		sortComparator = null;
+		compareCallback.dispose ();
+	}
+}
+
 /*public*/ void sort () {
 	checkWidget ();
 	if ((style & SWT.VIRTUAL) != 0) return;
@@ -14,6 +14,8 @@
  */
 package org.eclipse.swt.tests.gtk;
 
+import org.eclipse.swt.tests.gtk.widgets.Test_org_eclipse_swt_widgets_Table;
+import org.eclipse.swt.tests.gtk.widgets.Test_org_eclipse_swt_widgets_Tree;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -22,7 +24,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		// Test.class be added here.
-	Test_GtkConverter.class
+	Test_GtkConverter.class,
+	Test_org_eclipse_swt_widgets_Table.class,
+	Test_org_eclipse_swt_widgets_Tree.class
 })
 
 public class AllGTKTests {
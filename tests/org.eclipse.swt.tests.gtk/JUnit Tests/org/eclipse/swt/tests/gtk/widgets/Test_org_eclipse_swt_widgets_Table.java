@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.Callback;
+import org.eclipse.swt.internal.gtk.OS;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class Test_org_eclipse_swt_widgets_Table {
+
+	int rowChangedCount;
+
+	long rowChanged(long model, long path, long iter, long data) {
+		rowChangedCount++;
+		return 0;
+	}
+
+	@Test
+	public void test_beginUpdate_rowChanged() throws ReflectiveOperationException {
+		Display display = Display.getDefault();
+		Shell shell = new Shell(display);
+		Callback callback = new Callback(this, "rowChanged", 4);
+		try {
+			Table table = new Table(shell, SWT.NONE);
+			TableItem[] items = new TableItem[10];
+			for (int i = 0; i < items.length; i++) {
+				items[i] = new TableItem(table, SWT.NONE);
+			}
+			Field modelHandle = Table.class.getDeclaredField("modelHandle");
+			modelHandle.setAccessible(true);
+			long model = modelHandle.getLong(table);
+
+			/* Connected with the tree view as data, the same way as the handler blocked by beginUpdate() */
+			int handler = OS.g_signal_connect(model, OS.row_changed, callback.getAddress(), table.handle);
+			items[0].setText("unbatched");
+			assertTrue("row-changed is not observed", rowChangedCount > 0);
+
+			rowChangedCount = 0;
+			table.beginUpdate();
+			for (int i = 0; i < 3; i++) {
+				items[i].setText("first" + i);
+				items[i].setText("second" + i);
+				items[i].setForeground(display.getSystemColor(SWT.COLOR_RED));
+			}
+			assertEquals("row-changed reached the tree view during the update", 0, rowChangedCount);
+			table.endUpdate();
+			assertEquals("row-changed was not emitted once per changed row", 3, rowChangedCount);
+
+			rowChangedCount = 0;
+			table.beginUpdate();
+			items[4].setText("nested");
+			items[5].dispose();
+			table.beginUpdate();
+			items[6].setText("nested");
+			table.endUpdate();
+			assertEquals("row-changed was emitted before the outermost endUpdate", 0, rowChangedCount);
+			table.endUpdate();
+			assertEquals(2, rowChangedCount);
+			OS.g_signal_handler_disconnect(model, handler);
+		} finally {
+			shell.dispose();
+			callback.dispose();
+		}
+	}
+}
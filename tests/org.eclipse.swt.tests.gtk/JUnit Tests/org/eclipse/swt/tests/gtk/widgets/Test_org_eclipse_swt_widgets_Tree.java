@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.C;
+import org.eclipse.swt.internal.Callback;
+import org.eclipse.swt.internal.gtk.GTK;
+import org.eclipse.swt.internal.gtk.OS;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class Test_org_eclipse_swt_widgets_Tree {
+
+	int rowChangedCount;
+
+	long rowChanged(long model, long path, long iter, long data) {
+		rowChangedCount++;
+		return 0;
+	}
+
+	@Test
+	public void test_beginUpdate_rowChanged() throws ReflectiveOperationException {
+		Display display = Display.getDefault();
+		Shell shell = new Shell(display);
+		Callback callback = new Callback(this, "rowChanged", 4);
+		try {
+			Tree tree = new Tree(shell, SWT.NONE);
+			TreeItem root = new TreeItem(tree, SWT.NONE);
+			TreeItem[] children = new TreeItem[10];
+			for (int i = 0; i < children.length; i++) {
+				children[i] = new TreeItem(root, SWT.NONE);
+			}
+			Field modelHandle = Tree.class.getDeclaredField("modelHandle");
+			modelHandle.setAccessible(true);
+			long model = modelHandle.getLong(tree);
+
+			/* Connected with the tree view as data, the same way as the handler blocked by beginUpdate() */
+			int handler = OS.g_signal_connect(model, OS.row_changed, callback.getAddress(), tree.handle);
+			children[0].setText("unbatched");
+			assertTrue("row-changed is not observed", rowChangedCount > 0);
+
+			rowChangedCount = 0;
+			tree.beginUpdate();
+			root.setText("root");
+			for (int i = 0; i < 3; i++) {
+				children[i].setText("first" + i);
+				children[i].setText("second" + i);
+				children[i].setForeground(display.getSystemColor(SWT.COLOR_RED));
+			}
+			children[3].setText("disposed");
+			children[3].dispose();
+			assertEquals("row-changed reached the tree view during the update", 0, rowChangedCount);
+			tree.endUpdate();
+			assertEquals("row-changed was not emitted once per changed row", 4, rowChangedCount);
+			OS.g_signal_handler_disconnect(model, handler);
+		} finally {
+			shell.dispose();
+			callback.dispose();
+		}
+	}
+
+	@Test
+	public void test_lastItemAcrossIterAllocations() throws ReflectiveOperationException {
+		Display display = Display.getDefault();
+		Shell shell = new Shell(display);
+		int size = GTK.GtkTreeIter_sizeof();
+		long iter1 = OS.g_malloc(size);
+		long iter2 = OS.g_malloc(size);
+		try {
+			Tree tree = new Tree(shell, SWT.NONE);
+			TreeItem first = new TreeItem(tree, SWT.NONE);
+			new TreeItem(tree, SWT.NONE);
+			Method getItem = Tree.class.getDeclaredMethod("_getItem", long.class);
+			getItem.setAccessible(true);
+			Method getLastItem = Tree.class.getDeclaredMethod("getLastItem", long.class);
+			getLastItem.setAccessible(true);
+
+			/* The tree store leaves the padding and user_data2/3 untouched, fill them differently */
+			byte[] garbage = new byte[size];
+			Arrays.fill(garbage, (byte) 0xAA);
+			C.memmove(iter1, garbage, size);
+			Arrays.fill(garbage, (byte) 0x55);
+			C.memmove(iter2, garbage, size);
+			Field modelHandle = Tree.class.getDeclaredField("modelHandle");
+			modelHandle.setAccessible(true);
+			long model = modelHandle.getLong(tree);
+			GTK.gtk_tree_model_get_iter_first(model, iter1);
+			GTK.gtk_tree_model_get_iter_first(model, iter2);
+
+			assertSame(first, getItem.invoke(tree, iter1));
+			assertSame("the last item was not found from another iter of the same row", first, getLastItem.invoke(tree, iter2));
+
+			GTK.gtk_tree_model_iter_next(model, iter2);
+			assertNull("the last item was found from the iter of another row", getLastItem.invoke(tree, iter2));
+		} finally {
+			OS.g_free(iter1);
+			OS.g_free(iter2);
+			shell.dispose();
+		}
+	}
+}
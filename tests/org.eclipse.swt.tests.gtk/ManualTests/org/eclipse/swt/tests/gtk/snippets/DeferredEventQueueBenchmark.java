@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.snippets;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Measures posting and draining deferred events, as done for example by
+ * Modify events during bulk model updates. The deferred event queue is
+ * internal, so events are posted through <code>Widget.postEvent(int)</code>.
+ */
+public class DeferredEventQueueBenchmark {
+	private static final int EVENT_COUNT = 100_000;
+
+	public static void main(String[] args) throws Exception {
+		Display display = new Display();
+		Shell shell = new Shell(display);
+		int[] received = new int[1];
+		shell.addListener(SWT.Modify, e -> received[0]++);
+		Method postEvent = Widget.class.getDeclaredMethod("postEvent", int.class);
+		postEvent.setAccessible(true);
+
+		for (int run = 0; run < 10; run++) {
+			received[0] = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < EVENT_COUNT; i++) {
+				postEvent.invoke(shell, SWT.Modify);
+			}
+			long posted = System.nanoTime();
+			while (received[0] < EVENT_COUNT) {
+				if (!display.readAndDispatch()) break;
+			}
+			long drained = System.nanoTime();
+			System.out.println("Posting " + EVENT_COUNT + " events: " + String.format("%,15d", posted - start)
+					+ " ns  draining: " + String.format("%,15d", drained - posted) + " ns  received: " + received[0]);
+		}
+
+		display.dispose();
+	}
+}
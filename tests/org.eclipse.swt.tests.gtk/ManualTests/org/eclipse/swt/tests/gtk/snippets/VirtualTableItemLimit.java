@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.snippets;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * Scrolls through a large VIRTUAL table and prints the used heap and the
+ * number of SetData events. Pass <code>limit</code> as the argument to
+ * clear items that were scrolled out of view; without it the heap keeps
+ * growing with every row that has been shown.
+ */
+public class VirtualTableItemLimit {
+	private static final int ITEM_COUNT = 1_000_000;
+
+	public static void main(String[] args) {
+		Display display = new Display();
+		Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		Table table = new Table(shell, SWT.VIRTUAL | SWT.BORDER);
+		if (args.length > 0 && "limit".equals(args[0])) {
+			table.setData("org.eclipse.swt.internal.gtk.virtualItemLimit", 10_000);
+		}
+		int[] setDataCount = new int[1];
+		table.addListener(SWT.SetData, event -> {
+			TableItem item = (TableItem) event.item;
+			item.setText("Item " + event.index + " " + "x".repeat(64));
+			setDataCount[0]++;
+		});
+		long start = System.nanoTime();
+		table.setItemCount(ITEM_COUNT);
+		System.out.println("setItemCount: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+		shell.setSize(400, 600);
+		shell.open();
+
+		Runtime runtime = Runtime.getRuntime();
+		for (int top = 0; top < ITEM_COUNT; top += 50) {
+			table.setTopIndex(top);
+			while (display.readAndDispatch()) {
+			}
+			if (top % 100_000 == 0) {
+				System.gc();
+				long used = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+				System.out.println("top: " + top + "  SetData: " + setDataCount[0] + "  heap: " + used + " MB");
+			}
+		}
+
+		display.dispose();
+	}
+}
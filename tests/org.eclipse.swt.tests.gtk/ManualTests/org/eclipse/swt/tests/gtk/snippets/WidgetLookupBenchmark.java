@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.snippets;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Measures the cost of resolving the widget of a native handle, which is
+ * done by <code>Display.getWidget(long)</code> for every signal callback.
+ * Handles are looked up in alternating order to bypass the cache of the
+ * last resolved handle.
+ */
+public class WidgetLookupBenchmark {
+	private static final int WIDGET_COUNT = 10_000;
+	private static final int LOOKUPS = 10_000_000;
+
+	public static void main(String[] args) throws Throwable {
+		Display display = new Display();
+		Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		long[] handles = new long[WIDGET_COUNT];
+		for (int i = 0; i < WIDGET_COUNT; i++) {
+			handles[i] = new Button(shell, SWT.PUSH).handle;
+		}
+		MethodHandle getWidget = MethodHandles.privateLookupIn(Display.class, MethodHandles.lookup())
+				.findVirtual(Display.class, "getWidget", MethodType.methodType(Widget.class, long.class));
+
+		for (int run = 0; run < 10; run++) {
+			int found = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < LOOKUPS; i++) {
+				Widget widget = (Widget) getWidget.invokeExact(display, handles[(i * 7919) % WIDGET_COUNT]);
+				if (widget != null) found++;
+			}
+			long duration = System.nanoTime() - start;
+			System.out.println("Lookups: " + LOOKUPS + "  found: " + found + "  duration: "
+					+ String.format("%,15d", duration) + " ns  per lookup: " + (duration / (double) LOOKUPS) + " ns");
+		}
+
+		display.dispose();
+	}
+}
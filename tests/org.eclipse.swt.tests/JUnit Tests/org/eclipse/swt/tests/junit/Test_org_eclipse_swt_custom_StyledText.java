@@ -1292,6 +1292,93 @@ void test_getLinePixel(StyledText text) {
 	assertEquals(lineHeight, text.getLinePixel(10));
 }
 
+@Test
+public void test_getLinePixelWithFixedPitchFont() {
+	StyledText text2 = new StyledText(shell, SWT.WRAP);
+	Font font = new Font(text2.getDisplay(), "Monospace", 10, SWT.NORMAL);
+	try {
+		text2.setFont(font);
+		int lineHeight = text2.getLineHeight();
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			builder.append("Line").append(i).append('\t').append(i).append('\n');
+		}
+		builder.append("word ".repeat(200));
+		text2.setText(builder.toString());
+		text2.setSize(200, lineHeight * 10);
+		for (int i = 0; i <= 100; i++) {
+			assertEquals(i * lineHeight, text2.getLinePixel(i));
+			assertEquals(i, text2.getLineIndex(i * lineHeight));
+		}
+		assertTrue(text2.getLinePixel(101) > 101 * lineHeight);
+
+		text2.setTopIndex(50);
+		assertEquals(-50 * lineHeight, text2.getLinePixel(0));
+		assertEquals(0, text2.getLinePixel(50));
+		assertEquals(49, text2.getLineIndex(-1));
+		assertEquals(100, text2.getLineIndex(50 * lineHeight + 1));
+	} finally {
+		text2.dispose();
+		font.dispose();
+	}
+}
+
+@Test
+public void test_getLocationAtOffsetAfterScrollingAndEditing() {
+	StringBuilder builder = new StringBuilder();
+	for (int i = 0; i < 1000; i++) {
+		builder.append("x".repeat(i % 40)).append('\n');
+	}
+	text.setText(builder.toString());
+	text.setSize(400, 10 * text.getLineHeight());
+	int[] topIndices = {0, 500, 0, 900, 500};
+	for (int topIndex : topIndices) {
+		text.setTopIndex(topIndex);
+		for (int i = topIndex; i < topIndex + 20; i++) {
+			text.getLocationAtOffset(text.getOffsetAtLine(i));
+		}
+	}
+	text.replaceTextRange(0, 0, "yy\n");
+	text.replaceTextRange(text.getOffsetAtLine(5), text.getLine(5).length() + 1, "");
+	text.replaceTextRange(text.getOffsetAtLine(600), 0, "z\nz\n");
+
+	StyledText expected = new StyledText(shell, SWT.MULTI);
+	expected.setText(text.getText());
+	expected.setSize(400, 10 * text.getLineHeight());
+	for (int topIndex : topIndices) {
+		text.setTopIndex(topIndex);
+		expected.setTopIndex(topIndex);
+		for (int i = topIndex; i < topIndex + 20; i++) {
+			int offset = text.getOffsetAtLine(i) + text.getLine(i).length();
+			assertEquals(expected.getLocationAtOffset(offset), text.getLocationAtOffset(offset));
+		}
+	}
+	expected.dispose();
+}
+
+@Test
+public void test_getLinePixelAfterVerticalIndentBelowViewport() {
+	StyledText text2 = new StyledText(shell, SWT.NONE);
+	try {
+		int lineHeight = text2.getLineHeight();
+		text2.setText("Line\n".repeat(100));
+		text2.setSize(200, lineHeight * 10);
+		assertEquals(100 * lineHeight, text2.getLinePixel(100));
+
+		text2.setLineVerticalIndent(50, 7);
+		assertEquals(50 * lineHeight, text2.getLinePixel(50));
+		assertEquals(51 * lineHeight + 7, text2.getLinePixel(51));
+		assertEquals(60 * lineHeight + 7, text2.getLinePixel(60));
+		assertEquals(60, text2.getLineIndex(60 * lineHeight + 7 + 1));
+		assertEquals(40 * lineHeight, text2.getLinePixel(40));
+
+		text2.setLineVerticalIndent(50, 0);
+		assertEquals(60 * lineHeight, text2.getLinePixel(60));
+	} finally {
+		text2.dispose();
+	}
+}
+
 @Test
 public void test_getLocationAtOffsetI(){
 	// copy from StyledText, has to match value used by StyledText
@@ -16,13 +16,22 @@ package org.eclipse.swt.tests.junit;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.MappedFileContent;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.custom.StyledTextContent;
 import org.eclipse.swt.custom.TextChangeListener;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.Before;
 import org.junit.Test;
@@ -143,4 +152,79 @@ public void test_setTextLjava_lang_String() {
 	assertEquals(":i:", "test2", styledText.getText());
 }
 
+@Test
+public void test_ropeContent() {
+	StyledText ropeText;
+	System.setProperty("org.eclipse.swt.custom.StyledText.ropeContent", "true");
+	try {
+		ropeText = new StyledText(shell, SWT.MULTI);
+	} finally {
+		System.clearProperty("org.eclipse.swt.custom.StyledText.ropeContent");
+	}
+	StyledText defaultText = new StyledText(shell, SWT.MULTI);
+	StyledTextContent rope = ropeText.getContent(), expected = defaultText.getContent();
+	assertNotEquals(expected.getClass(), rope.getClass());
+
+	Random random = new Random(0);
+	String line = "0123456789\n".repeat(1000);
+	ropeText.setText(line.repeat(10));
+	defaultText.setText(line.repeat(10));
+	for (int i = 0; i < 200; i++) {
+		int start = random.nextInt(expected.getCharCount() + 1);
+		int length = random.nextInt(Math.min(expected.getCharCount() - start, 20000) + 1);
+		String text = line.substring(0, random.nextInt(random.nextBoolean() ? 20 : line.length()));
+		ropeText.replaceTextRange(start, length, text);
+		defaultText.replaceTextRange(start, length, text);
+		assertEquals(expected.getCharCount(), rope.getCharCount());
+		assertEquals(expected.getLineCount(), rope.getLineCount());
+		int lineIndex = random.nextInt(expected.getLineCount());
+		assertEquals(expected.getLine(lineIndex), rope.getLine(lineIndex));
+		assertEquals(expected.getOffsetAtLine(lineIndex), rope.getOffsetAtLine(lineIndex));
+		int offset = random.nextInt(expected.getCharCount() + 1);
+		assertEquals(expected.getLineAtOffset(offset), rope.getLineAtOffset(offset));
+	}
+	assertEquals(defaultText.getText(), ropeText.getText());
+}
+
+@Test
+public void test_mappedFileContent() throws IOException {
+	StringBuilder builder = new StringBuilder();
+	for (int i = 0; i < 20000; i++) {
+		builder.append(i).append(i % 3 == 0 ? " \u00e9\u20ac\ud83d\ude00" : "").append(i % 7 == 0 ? "\r\n" : "\n");
+	}
+	String text = builder.toString();
+	Path file = Files.createTempFile("swt", ".txt");
+	file.toFile().deleteOnExit();
+	MappedFileContent mapped = null;
+	try {
+		Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+		Display display = shell.getDisplay();
+		mapped = new MappedFileContent(display, file.toString());
+		StyledText mappedText = new StyledText(shell, SWT.MULTI | SWT.READ_ONLY);
+		mappedText.setContent(mapped);
+		while (!mapped.isIndexed()) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		StyledText defaultText = new StyledText(shell, SWT.MULTI);
+		defaultText.setText(text);
+		StyledTextContent expected = defaultText.getContent();
+		assertEquals(expected.getCharCount(), mapped.getCharCount());
+		assertEquals(expected.getLineCount(), mapped.getLineCount());
+		assertEquals(expected.getCharCount(), mappedText.getCharCount());
+		Random random = new Random(0);
+		for (int i = 0; i < 200; i++) {
+			int lineIndex = random.nextInt(expected.getLineCount());
+			assertEquals(expected.getLine(lineIndex), mapped.getLine(lineIndex));
+			assertEquals(expected.getOffsetAtLine(lineIndex), mapped.getOffsetAtLine(lineIndex));
+			int offset = random.nextInt(expected.getCharCount() + 1);
+			assertEquals(expected.getLineAtOffset(offset), mapped.getLineAtOffset(offset));
+			int length = random.nextInt(Math.min(expected.getCharCount() - offset, 1000) + 1);
+			assertEquals(expected.getTextRange(offset, length), mapped.getTextRange(offset, length));
+		}
+		assertEquals(text, mappedText.getText());
+	} finally {
+		if (mapped != null) mapped.dispose();
+	}
+}
+
 }
@@ -26,9 +26,13 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -227,6 +231,163 @@ public void test_asyncExecLjava_lang_Runnable_dispose() {
 	}
 }
 
+@Test
+public void test_asyncExecCoalescedLjava_lang_ObjectLjava_lang_Runnable() {
+	final Display display = new Display();
+	try {
+		try {
+			display.asyncExecCoalesced(null, () -> {});
+			fail("No exception thrown for null key");
+		} catch (IllegalArgumentException e) {
+			assertSWTProblem("Incorrect exception thrown for null key", SWT.ERROR_NULL_ARGUMENT, e);
+		}
+		StringBuilder log = new StringBuilder();
+		display.asyncExecCoalesced("a", () -> log.append("a1"));
+		display.asyncExec(() -> log.append("x"));
+		display.asyncExecCoalesced("b", () -> log.append("b1"));
+		display.asyncExecCoalesced("a", () -> log.append("a2"));
+		display.asyncExecCoalesced("a", () -> log.append("a3"));
+		assertEquals(3, display.getSynchronizer().getMessageCount());
+		while (display.readAndDispatch()) {
+			// dispatch
+		}
+		// the latest runnable keeps the position of the first one
+		assertEquals("a3xb1", log.toString());
+		display.asyncExecCoalesced("a", () -> log.append("a4"));
+		while (display.readAndDispatch()) {
+			// dispatch
+		}
+		assertEquals("a3xb1a4", log.toString());
+	} finally {
+		display.dispose();
+	}
+}
+
+@Test
+public void test_syncExecLjava_lang_Runnable_manyThreads() throws Exception {
+	final Display display = new Display();
+	ExecutorService executor;
+	try {
+		// virtual threads are only available on Java 21 and later
+		executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	} catch (NoSuchMethodException e) {
+		executor = Executors.newFixedThreadPool(200);
+	}
+	try {
+		final int count = 10_000;
+		AtomicInteger ran = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(count);
+		for (int i = 0; i < count; i++) {
+			executor.execute(() -> {
+				try {
+					display.syncExec(() -> {
+						assertSame(display, Display.getCurrent());
+						ran.incrementAndGet();
+					});
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		long start = System.currentTimeMillis();
+		while (done.getCount() > 0 && System.currentTimeMillis() - start < 60000) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertEquals(0, done.getCount());
+		assertEquals(count, ran.get());
+	} finally {
+		executor.shutdownNow();
+		display.dispose();
+	}
+}
+
+@Test
+public void test_supplyAsyncLjava_util_function_Supplier() throws Exception {
+	final Display display = new Display();
+	try {
+		AtomicBoolean handlerCalled = new AtomicBoolean();
+		display.setRuntimeExceptionHandler(e -> handlerCalled.set(true));
+		CompletableFuture<Display> current = CompletableFuture.supplyAsync(() -> display.supplyAsync(Display::getCurrent))
+				.thenCompose(future -> future);
+		CompletableFuture<String> failed = display.supplyAsync(() -> {
+			throw new IllegalStateException("42");
+		});
+		CompletableFuture<String> chained = display.supplyAsync(() -> "SWT")
+				.thenApplyAsync(s -> Display.getCurrent() == display ? s : null, display);
+		long start = System.currentTimeMillis();
+		while (!(current.isDone() && failed.isDone() && chained.isDone()) && System.currentTimeMillis() - start < 10000) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertSame(display, current.get());
+		assertTrue(failed.isCompletedExceptionally());
+		try {
+			failed.join();
+			fail("No exception thrown by the supplier");
+		} catch (Exception e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertEquals("42", e.getCause().getMessage());
+		}
+		assertFalse("exception was passed to the handler", handlerCalled.get());
+		assertEquals("SWT", chained.get());
+	} finally {
+		display.dispose();
+	}
+}
+
+@Test
+public void test_supplyAsyncCompletedWhenDisposed() throws Exception {
+	final Display display = new Display();
+	AtomicReference<CompletableFuture<String>> pending = new AtomicReference<>();
+	AtomicBoolean supplierCalled = new AtomicBoolean();
+	display.disposeExec(() -> pending.set(display.supplyAsync(() -> {
+		supplierCalled.set(true);
+		return "SWT";
+	})));
+	display.dispose();
+	CompletableFuture<String> future = pending.get();
+	assertNotNull(future);
+	assertTrue(future.isCompletedExceptionally());
+	assertFalse(supplierCalled.get());
+	try {
+		future.get(10, TimeUnit.SECONDS);
+		fail("No exception thrown for a supplier pending at dispose");
+	} catch (ExecutionException e) {
+		assertTrue(e.getCause() instanceof SWTException);
+		assertEquals(SWT.ERROR_DEVICE_DISPOSED, ((SWTException) e.getCause()).code);
+	}
+}
+
+@Test
+public void test_setAsyncExecTimeBudgetI() {
+	final Display display = new Display();
+	try {
+		assertEquals(0, display.getAsyncExecTimeBudget());
+		try {
+			display.setAsyncExecTimeBudget(-1);
+			fail("No exception thrown for negative budget");
+		} catch (IllegalArgumentException e) {
+			assertSWTProblem("Incorrect exception thrown for negative budget", SWT.ERROR_INVALID_ARGUMENT, e);
+		}
+		Synchronizer synchronizer = display.getSynchronizer();
+		AtomicInteger count = new AtomicInteger();
+		for (int i = 0; i < 1000; i++) {
+			display.asyncExec(count::incrementAndGet);
+		}
+		assertEquals(1000, synchronizer.getMessageCount());
+		display.setAsyncExecTimeBudget(10_000);
+		assertEquals(10_000, display.getAsyncExecTimeBudget());
+		while (display.readAndDispatch()) {
+			// dispatch
+		}
+		assertEquals(1000, count.get());
+		assertEquals(0, synchronizer.getMessageCount());
+		assertTrue("runnables were not run in batches", synchronizer.getLastDrainCount() > 1);
+		assertTrue(synchronizer.getLastDrainTime() >= 0);
+	} finally {
+		display.dispose();
+	}
+}
+
 @Test
 public void test_beep() {
 	Display display = new Display();
@@ -1566,6 +1727,46 @@ public void test_timerExecILjava_lang_Runnable() {
 	}
 }
 
+@Test
+public void test_timerExec_rescheduleAndCancel() {
+	final Display display = new Display();
+	try {
+		final int count = 1000;
+		final AtomicInteger ran = new AtomicInteger();
+		final boolean[] cancelledRan = new boolean[] {false};
+		final StringBuilder order = new StringBuilder();
+		Runnable[] timers = new Runnable[count];
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			timers[i] = () -> {
+				if (index % 2 == 1) cancelledRan[0] = true;
+				ran.incrementAndGet();
+			};
+			display.timerExec(50, timers[i]);
+		}
+		// cancel every second timer
+		for (int i = 1; i < count; i += 2) {
+			display.timerExec(-1, timers[i]);
+		}
+		Runnable late = () -> order.append("late");
+		Runnable early = () -> order.append("early");
+		display.timerExec(100, early);
+		display.timerExec(10, late);
+		// rescheduling replaces the previous deadline
+		display.timerExec(200, late);
+		display.timerExec(20, early);
+		long start = System.currentTimeMillis();
+		while (order.length() < "earlylate".length() && System.currentTimeMillis() - start < 10000) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertEquals("earlylate", order.toString());
+		assertEquals(count / 2, ran.get());
+		assertFalse("cancelled timer did execute", cancelledRan[0]);
+	} finally {
+		display.dispose();
+	}
+}
+
 @Test
 public void test_update() {
 	Display display = new Display();
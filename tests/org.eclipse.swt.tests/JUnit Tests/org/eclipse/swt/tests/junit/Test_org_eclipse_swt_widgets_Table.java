@@ -18,19 +18,27 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -59,6 +67,35 @@ public void test_ConstructorLorg_eclipse_swt_widgets_CompositeI() {
 	}
 }
 
+@Test
+public void test_beginUpdate() {
+	int number = 20;
+	for (int i = 0; i < number; i++)
+		new TableItem(table, 0).setText("item" + i);
+
+	table.beginUpdate();
+	table.beginUpdate();
+	for (int i = 0; i < number; i++) {
+		TableItem item = table.getItem(i);
+		item.setText("changed" + i);
+		item.setForeground(table.getDisplay().getSystemColor(SWT.COLOR_RED));
+	}
+	new TableItem(table, 0, 0).setText("first");
+	table.getItem(number).dispose();
+	table.endUpdate();
+	assertEquals("changed0", table.getItem(1).getText());
+	table.endUpdate();
+	assertEquals("first", table.getItem(0).getText());
+	assertEquals("changed18", table.getItem(number - 1).getText());
+
+	// unmatched calls are ignored
+	table.endUpdate();
+	table.beginUpdate();
+	table.getItem(0).setText("again");
+	table.endUpdate();
+	assertEquals("again", table.getItem(0).getText());
+}
+
 @Override
 @Test
 public void test_computeSizeIIZ() {
@@ -711,6 +748,29 @@ public void test_indexOfLorg_eclipse_swt_widgets_TableItem() {
 	}
 }
 
+@Test
+public void test_indexOfLorg_eclipse_swt_widgets_TableItem_afterInsertAndRemove() {
+	List<TableItem> expected = new ArrayList<>();
+	for (int i = 0; i < 50; i++) {
+		expected.add(new TableItem(table, SWT.NONE));
+	}
+	expected.add(10, new TableItem(table, SWT.NONE, 10));
+	expected.add(0, new TableItem(table, SWT.NONE, 0));
+	table.remove(30);
+	expected.remove(30);
+	table.remove(5, 8);
+	expected.subList(5, 9).clear();
+	table.remove(new int[] {40, 2});
+	expected.remove(40);
+	expected.remove(2);
+	TableItem disposed = expected.remove(20);
+	disposed.dispose();
+	for (int i = expected.size() - 1; i >= 0; i--) {
+		assertEquals(i, table.indexOf(expected.get(i)));
+	}
+	assertEquals(expected.size(), table.getItemCount());
+}
+
 @Test
 public void test_isSelectedI() {
 	int number = 15;
@@ -1324,6 +1384,36 @@ public void test_selectII() {
 	assertArrayEquals(new int[] {}, table.getSelectionIndices());
 }
 
+@Test
+public void test_selection_followsItemChanges() {
+	int number = 10;
+	for (int i = 0; i < number; i++)
+		new TableItem(table, 0);
+
+	table.select(new int[] {2, 5, 9});
+	new TableItem(table, 0, 0);
+	assertArrayEquals(new int[] {3, 6, 10}, table.getSelectionIndices());
+	assertTrue(table.isSelected(6));
+	assertFalse(table.isSelected(5));
+
+	table.remove(4);
+	assertArrayEquals(new int[] {3, 5, 9}, table.getSelectionIndices());
+
+	table.getItem(3).dispose();
+	assertArrayEquals(new int[] {4, 8}, table.getSelectionIndices());
+
+	table.remove(0, 4);
+	assertArrayEquals(new int[] {3}, table.getSelectionIndices());
+	assertEquals(1, table.getSelectionCount());
+	assertEquals(3, table.getSelectionIndex());
+
+	table.selectAll();
+	table.deselect(1, 3);
+	assertArrayEquals(new int[] {0}, table.getSelectionIndices());
+	assertFalse(table.isSelected(-1));
+	assertFalse(table.isSelected(table.getItemCount()));
+}
+
 @Test
 public void test_setColumnOrder$I() {
 	assertArrayEquals(table.getColumnOrder(), new int[0]);
@@ -1475,6 +1565,31 @@ public void test_setItemCountI() {
 	}
 }
 
+@Test
+public void test_setItems$$Ljava_lang_String() {
+	new TableItem(table, SWT.NULL).setText("old");
+	table.setItems(new String[][] {{"a"}, {}, {"c", "ignored"}, {null}});
+	assertEquals(4, table.getItemCount());
+	assertEquals("a", table.getItem(0).getText());
+	assertEquals("", table.getItem(1).getText());
+	assertEquals("c", table.getItem(2).getText());
+	assertEquals("", table.getItem(3).getText());
+	assertEquals(2, table.indexOf(table.getItem(2)));
+
+	new TableColumn(table, SWT.NONE);
+	new TableColumn(table, SWT.NONE);
+	table.setItems(new String[][] {{"a0", "a1"}, {null, "b1"}});
+	assertEquals(2, table.getItemCount());
+	assertArrayEquals(new String[] {"a0", "a1"}, new String[] {table.getItem(0).getText(0), table.getItem(0).getText(1)});
+	assertArrayEquals(new String[] {"", "b1"}, new String[] {table.getItem(1).getText(0), table.getItem(1).getText(1)});
+
+	table.setItems(new String[0][]);
+	assertEquals(0, table.getItemCount());
+
+	assertThrows(IllegalArgumentException.class, () -> table.setItems(null));
+	assertThrows(IllegalArgumentException.class, () -> table.setItems(new String[][] {{"a"}, null}));
+}
+
 @Test
 public void test_setLinesVisibleZ() {
 	assertFalse(table.getLinesVisible());
@@ -1814,6 +1929,86 @@ private void createTable(List<String> events) {
 	}
 }
 
+@Test
+public void test_sortLjava_util_Comparator() {
+	String[] texts = {"c", "a", "d", "b"};
+	for (String text : texts) {
+		new TableItem(table, SWT.NONE).setText(text);
+	}
+	TableItem itemA = table.getItem(1);
+	TableItem itemD = table.getItem(2);
+	table.setSelection(new TableItem[] {itemA, itemD});
+
+	table.sort(Comparator.comparing(item -> item.getText()));
+	String[] sorted = new String[table.getItemCount()];
+	for (int i = 0; i < sorted.length; i++) {
+		sorted[i] = table.getItem(i).getText();
+		assertEquals(i, table.indexOf(table.getItem(i)));
+	}
+	assertArrayEquals(new String[] {"a", "b", "c", "d"}, sorted);
+	assertArrayEquals(new int[] {0, 3}, table.getSelectionIndices());
+	assertEquals(itemA, table.getItem(0));
+	assertEquals(itemD, table.getItem(3));
+
+	assertThrows(IllegalArgumentException.class, () -> table.sort(null));
+}
+
+@Test
+public void test_MeasureItemCache() {
+	Assume.assumeTrue("MeasureItem results are only cached on GTK", SwtTestUtil.isGTK);
+	table.dispose();
+	table = new Table(shell, SWT.VIRTUAL | SWT.MULTI);
+	setWidget(table);
+	TableColumn column = new TableColumn(table, SWT.NONE);
+	TableItem item = new TableItem(table, SWT.NONE);
+	item.setText("item");
+	int[] measured = new int[1];
+	table.addListener(SWT.MeasureItem, event -> measured[0]++);
+	table.setData("org.eclipse.swt.internal.gtk.cacheMeasureItem", Boolean.TRUE);
+	column.pack();
+	assertTrue("cell was not measured", measured[0] > 0);
+	measured[0] = 0;
+	column.pack();
+	assertEquals("cached cell was measured again", 0, measured[0]);
+
+	Font font = new Font(shell.getDisplay(), "Sans", 14, SWT.NORMAL);
+	Image image = new Image(shell.getDisplay(), 16, 16);
+	try {
+		Map<String, Runnable> invalidations = new LinkedHashMap<>();
+		invalidations.put("setText", () -> item.setText("text"));
+		invalidations.put("setImage", () -> item.setImage(image));
+		invalidations.put("setFont", () -> item.setFont(font));
+		invalidations.put("clear", () -> {
+			table.clear(0);
+			item.setText("item");
+		});
+		invalidations.put("setData", () -> item.setData("data"));
+		invalidations.put("setData with key", () -> item.setData("key", "data"));
+		invalidations.put("select", () -> table.select(0));
+		invalidations.put("new column", () -> new TableColumn(table, SWT.NONE));
+		invalidations.put("setFont of the table", () -> table.setFont(font));
+		invalidations.put("addListener", () -> table.addListener(SWT.MeasureItem, event -> {}));
+		invalidations.put("redraw", () -> table.redraw());
+		for (Map.Entry<String, Runnable> invalidation : invalidations.entrySet()) {
+			measured[0] = 0;
+			invalidation.getValue().run();
+			column.pack();
+			assertTrue("cell was not measured again after " + invalidation.getKey(), measured[0] > 0);
+		}
+
+		table.setData("org.eclipse.swt.internal.gtk.cacheMeasureItem", null);
+		column.pack();
+		measured[0] = 0;
+		column.pack();
+		assertTrue("cell was not measured without the cache", measured[0] > 0);
+	} finally {
+		table.removeAll();
+		table.setFont(null);
+		font.dispose();
+		image.dispose();
+	}
+}
+
 @Test
 public void test_consistency_KeySelection() {
 	List<String> events = new ArrayList<>();
@@ -1897,6 +2092,46 @@ public void test_Virtual() {
 			dataCounter[0] > visibleCount / 2 && dataCounter[0] <= visibleCount * 3);
 }
 
+@Test
+public void test_VirtualItemLimit() throws InterruptedException {
+	Assume.assumeTrue("Items of VIRTUAL tables are only cleared on GTK", SwtTestUtil.isGTK);
+	table.dispose();
+	table = new Table(shell, SWT.VIRTUAL | SWT.BORDER);
+	setWidget(table);
+	/* The limit is raised to the minimum the table allows */
+	table.setData("org.eclipse.swt.internal.gtk.virtualItemLimit", 1);
+
+	int count = 10_000;
+	List<TableItem> firstItems = new ArrayList<>();
+	table.addListener(SWT.SetData, event -> {
+		if (event.index == 0) firstItems.add((TableItem) event.item);
+		((TableItem) event.item).setText("Item " + event.index);
+	});
+	shell.setLayout(new FillLayout());
+	shell.setSize(200, 600);
+	shell.open();
+	table.setItemCount(count);
+	SwtTestUtil.processEvents();
+
+	TableItem first = table.getItem(0);
+	assertEquals("Item 0", first.getText());
+	assertEquals(1, firstItems.size());
+	boolean[] disposed = new boolean[1];
+	first.addListener(SWT.Dispose, event -> disposed[0] = true);
+	int visibleCount = Math.max(1, table.getClientArea().height / table.getItemHeight());
+	for (int top = 0; top < count; top += visibleCount) {
+		table.setTopIndex(top);
+		SwtTestUtil.processEvents();
+	}
+	assertFalse("item of the least recently drawn page was disposed", disposed[0] || first.isDisposed());
+	assertSame(first, table.getItem(0));
+
+	/* The cleared item is populated again, on the same instance */
+	assertEquals("Item 0", first.getText());
+	assertEquals(2, firstItems.size());
+	assertSame(first, firstItems.get(1));
+}
+
 @Test
 public void test_setTopIndex() {
 	for (int i = 0; i < 10; i++) {
@@ -26,6 +26,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -231,6 +232,77 @@ public void test_setTextLjava_lang_String() {
 	}
 }
 
+@Test
+public void test_pack_followsCellChanges() {
+	for (int i = 0; i < 100; i++) {
+		new TableItem(table, SWT.NONE).setText("Item " + i);
+	}
+	tableColumn.pack();
+	int width = tableColumn.getWidth();
+
+	TableItem item = table.getItem(50);
+	item.setText("A much longer text than any of the other items");
+	tableColumn.pack();
+	int longWidth = tableColumn.getWidth();
+	assertTrue(longWidth > width);
+
+	item.setText("Item 50");
+	tableColumn.pack();
+	assertEquals(width, tableColumn.getWidth());
+
+	item.setText("A much longer text than any of the other items");
+	tableColumn.pack();
+	assertEquals(longWidth, tableColumn.getWidth());
+	item.dispose();
+	tableColumn.pack();
+	assertEquals(width, tableColumn.getWidth());
+}
+
+@Test
+public void test_pack_followsSeveralCellChanges() {
+	for (int i = 0; i < 100; i++) {
+		new TableItem(table, SWT.NONE).setText("Item " + i);
+	}
+	tableColumn.pack();
+	table.getItem(10).setText("A longer text than the other items");
+	tableColumn.pack();
+	int longWidth = tableColumn.getWidth();
+
+	for (int i = 20; i < 90; i++) {
+		table.getItem(i).setText("Changed " + i);
+	}
+	table.getItem(50).setText("A much longer text than any of the other items");
+	tableColumn.pack();
+	assertTrue(tableColumn.getWidth() > longWidth);
+
+	table.getItem(50).setText("Item 50");
+	table.getItem(60).setText("Item 60");
+	tableColumn.pack();
+	assertEquals(longWidth, tableColumn.getWidth());
+}
+
+@Test
+public void test_pack_MeasureItem() {
+	for (int i = 0; i < 10; i++) {
+		new TableItem(table, SWT.NONE).setText("Item " + i);
+	}
+	int[] measuredWidth = { 100 };
+	table.addListener(SWT.MeasureItem, event -> event.width = measuredWidth[0]);
+	tableColumn.pack();
+	int width = tableColumn.getWidth();
+
+	measuredWidth[0] = 200;
+	table.redraw();
+	tableColumn.pack();
+	int wideWidth = tableColumn.getWidth();
+	assertTrue(wideWidth > width);
+
+	measuredWidth[0] = 50;
+	table.redraw();
+	tableColumn.pack();
+	assertTrue(tableColumn.getWidth() < wideWidth);
+}
+
 /* custom */
 protected TableColumn tableColumn;
 protected Table table;
@@ -18,10 +18,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -77,6 +79,28 @@ public void test_ConstructorLorg_eclipse_swt_widgets_CompositeI() {
 	}
 }
 
+@Test
+public void test_beginUpdate() {
+	TreeItem root = new TreeItem(tree, 0);
+	for (int i = 0; i < 10; i++)
+		new TreeItem(root, 0).setText("child" + i);
+
+	tree.beginUpdate();
+	root.setText("root");
+	for (TreeItem child : root.getItems())
+		child.setText(child.getText() + "!");
+	root.getItem(0).dispose();
+	tree.removeAll();
+	TreeItem item = new TreeItem(tree, 0);
+	item.setText("after");
+	tree.endUpdate();
+	assertEquals(1, tree.getItemCount());
+	assertEquals("after", tree.getItem(0).getText());
+
+	// unmatched calls are ignored
+	tree.endUpdate();
+}
+
 @Override
 @Test
 public void test_computeSizeIIZ() {
@@ -346,6 +370,33 @@ public void test_removeAll() {
 	assertEquals(0, tree.getItemCount());
 }
 
+@Test
+public void test_disposeAndCreateItemsKeepsItems() {
+	List<TreeItem> expected = new ArrayList<>();
+	for (int i = 0; i < 200; i++) {
+		TreeItem item = new TreeItem(tree, SWT.NONE);
+		item.setText("root " + i);
+		new TreeItem(item, SWT.NONE).setText("child " + i);
+		expected.add(item);
+	}
+	for (int i = expected.size() - 1; i >= 0; i -= 2) {
+		expected.remove(i).dispose();
+	}
+	for (int i = 0; i < 150; i++) {
+		TreeItem item = new TreeItem(tree, SWT.NONE);
+		item.setText("new " + i);
+		new TreeItem(item, SWT.NONE).setText("new child " + i);
+		expected.add(item);
+	}
+	assertEquals(expected.size(), tree.getItemCount());
+	for (int i = 0; i < expected.size(); i++) {
+		TreeItem item = tree.getItem(i);
+		assertEquals(expected.get(i), item);
+		assertEquals(1, item.getItemCount());
+		assertEquals(item, item.getItem(0).getParentItem());
+	}
+}
+
 @Test
 public void test_selectAll() {
 	int number = 5;
@@ -745,6 +796,38 @@ public void test_showSelection() {
 	tree.showSelection();
 }
 
+@Test
+public void test_sortLorg_eclipse_swt_widgets_TreeItemLjava_util_Comparator() {
+	testTreeRegularAndVirtual(() -> {
+		tree.setItemCount(3);
+		String[] texts = {"c", "a", "b"};
+		for (int i = 0; i < texts.length; i++) {
+			tree.getItem(i).setText(texts[i]);
+		}
+		TreeItem parent = tree.getItem(1);
+		parent.setItemCount(3);
+		for (int i = 0; i < texts.length; i++) {
+			parent.getItem(i).setText(texts[i]);
+		}
+		TreeItem child = parent.getItem(0);
+		tree.setSelection(child);
+
+		tree.sort(null, Comparator.comparing(item -> item.getText()));
+		assertEquals("a", tree.getItem(0).getText());
+		assertEquals("b", tree.getItem(1).getText());
+		assertEquals("c", tree.getItem(2).getText());
+		assertEquals(parent, tree.getItem(0));
+		assertEquals("c", parent.getItem(0).getText());
+
+		tree.sort(parent, Comparator.comparing(item -> item.getText()));
+		assertEquals("a", parent.getItem(0).getText());
+		assertEquals(child, parent.getItem(2));
+		assertArrayEquals(new TreeItem[] {child}, tree.getSelection());
+
+		assertThrows(IllegalArgumentException.class, () -> tree.sort(null, null));
+	});
+}
+
 /**
  * Clean up the environment for a new test.
  *
@@ -1182,4 +1265,69 @@ public void test_setItemCount_itemCount2() {
 	});
 }
 
+@Test
+public void test_setItemCount_largeChildCount() {
+	testTreeRegularAndVirtual(() -> {
+		tree.setItemCount(1);
+		TreeItem item_0 = tree.getItem(0);
+		item_0.setItemCount(5000);
+		assertEquals(5000, item_0.getItemCount());
+		assertEquals(4999, item_0.indexOf(item_0.getItem(4999)));
+		assertEquals(5000, item_0.getItems().length);
+
+		item_0.setItemCount(10000);
+		assertEquals(10000, item_0.getItemCount());
+		new TreeItem(item_0, 0);
+		assertEquals(10001, item_0.getItemCount());
+
+		item_0.setItemCount(5);
+		assertEquals(5, item_0.getItemCount());
+		assertEquals(5, item_0.getItems().length);
+
+		item_0.setItemCount(3000);
+		item_0.setExpanded(true);
+		assertEquals(3000, item_0.getItemCount());
+		item_0.setItemCount(6000);
+		assertEquals(6000, item_0.getItemCount());
+		assertEquals(5999, item_0.indexOf(item_0.getItem(5999)));
+	});
+}
+
+@Test
+public void test_setItemCount_virtualChildPages() {
+	tree.dispose();
+	tree = new Tree(shell, SWT.VIRTUAL | SWT.BORDER);
+	setWidget(tree);
+	tree.addListener(SWT.SetData, event -> {
+		TreeItem item = (TreeItem) event.item;
+		TreeItem parentItem = item.getParentItem();
+		item.setText(parentItem == null ? "root" : "child " + parentItem.indexOf(item));
+	});
+	shell.setLayout(new FillLayout());
+	shell.setSize(200, 400);
+	shell.open();
+
+	int count = 100_000;
+	tree.setItemCount(1);
+	TreeItem root = tree.getItem(0);
+	root.setItemCount(count);
+	root.setExpanded(true);
+	SwtTestUtil.processEvents();
+	assertEquals(count, root.getItemCount());
+	assertEquals("child 10", root.getItem(10).getText());
+
+	/* Asking for a child item inserts the rows up to it */
+	TreeItem item = root.getItem(1000);
+	tree.showItem(item);
+	SwtTestUtil.processEvents();
+	assertEquals(1000, root.indexOf(item));
+	assertEquals("child 1000", item.getText());
+
+	new TreeItem(root, SWT.NONE, 2000).setText("inserted");
+	assertEquals(count + 1, root.getItemCount());
+	assertEquals("inserted", root.getItem(2000).getText());
+	assertEquals(count, root.indexOf(root.getItem(count)));
+	assertEquals(count + 1, root.getItems().length);
+}
+
 }
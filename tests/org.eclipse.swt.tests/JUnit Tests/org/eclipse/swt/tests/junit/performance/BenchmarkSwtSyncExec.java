@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Tests syncExec round-trip latency with many producer threads, see
+ * {@link BenchmarkSwtMultithreading} for the asyncExec throughput.
+ */
+public class BenchmarkSwtSyncExec {
+	private static final int THREADS = 64;
+	private static final int ROUND_TRIPS = 10_000;
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		final Display display = new Display();
+		try {
+			for (int runs = 0; runs < 10; runs++) {
+				long[] latencies = new long[THREADS * ROUND_TRIPS];
+				AtomicInteger running = new AtomicInteger(THREADS);
+				Thread[] threads = new Thread[THREADS];
+				for (int t = 0; t < THREADS; t++) {
+					final int offset = t * ROUND_TRIPS;
+					threads[t] = new Thread(() -> {
+						try {
+							for (int i = 0; i < ROUND_TRIPS; i++) {
+								long start = System.nanoTime();
+								display.syncExec(Display::getCurrent);
+								latencies[offset + i] = System.nanoTime() - start;
+							}
+						} finally {
+							running.decrementAndGet();
+							display.wake();
+						}
+					}, "producer-" + t);
+				}
+				long nanoTime = System.nanoTime();
+				for (Thread thread : threads) {
+					thread.start();
+				}
+				while (running.get() > 0) {
+					if (!display.readAndDispatch())
+						display.sleep();
+				}
+				long durationNanos = System.nanoTime() - nanoTime;
+				for (Thread thread : threads) {
+					thread.join();
+				}
+				Arrays.sort(latencies);
+				System.out.println("Duration for " + latencies.length + " round trips: "
+						+ String.format("%,15d", durationNanos) + " ns  p50: " + percentile(latencies, 0.5)
+						+ " ns  p90: " + percentile(latencies, 0.9) + " ns  p99: " + percentile(latencies, 0.99)
+						+ " ns  p99.9: " + percentile(latencies, 0.999) + " ns  max: "
+						+ latencies[latencies.length - 1] + " ns");
+			}
+		} finally {
+			display.dispose();
+		}
+	}
+
+	static long percentile(long[] sorted, double percentile) {
+		return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * sorted.length))];
+	}
+}
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.swt.tests.junit.performance;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
@@ -396,6 +399,33 @@ public void test_fastStringDrawing() {
 	disposeMeter(meter);
 }
 
+@Test
+public void test_removeHalfOfTable() {
+	PerformanceMeter meter = createMeterWithoutSummary("Remove half of a table");
+	String[][] rows = new String[500000][];
+	for (int i = 0; i < rows.length; i++) {
+		rows[i] = new String[] {"Item " + i};
+	}
+	for(int samples = 0; samples < 6; samples++) {
+		Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		Table table = new Table(shell, SWT.MULTI);
+		table.setItems(rows);
+		table.select(new int[] {10, 200000, 400000});
+		shell.open();
+		while(display.readAndDispatch()){/*empty*/}
+		// The first sample is a warm up.
+		if (samples > 0) meter.start();
+		table.remove(125000, 374999);
+		if (samples > 0) meter.stop();
+		assertEquals(250000, table.getItemCount());
+		assertArrayEquals(new int[] {10, 150000}, table.getSelectionIndices());
+		shell.dispose();
+		while(display.readAndDispatch()){/*empty*/}
+	}
+	disposeMeter(meter);
+}
+
 /* custom */
 Display display;
 }
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.manual;
+
+import java.util.Random;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures the heap used by the content of a StyledText for a large file
+ * and the latency of edits spread over the file. The edits are applied to
+ * the content directly, so that the numbers do not include painting. Run with
+ * <code>-Dorg.eclipse.swt.custom.StyledText.ropeContent=true</code> to measure
+ * the rope based content instead of the default one.
+ */
+public class StyledTextContentBenchmark {
+	private static final int LINE_COUNT = 5_000_000;
+	private static final int EDIT_PLACES = 200;
+	private static final int EDITS_PER_PLACE = 20;
+
+	public static void main(String[] args) {
+		Display display = new Display();
+		Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		StyledText text = new StyledText(shell, SWT.MULTI | SWT.V_SCROLL | SWT.H_SCROLL);
+		StyledTextContent content = text.getContent();
+		String data = "0123456789\n".repeat(LINE_COUNT);
+		System.out.println("Content: " + content.getClass().getSimpleName());
+
+		long heap = usedHeap();
+		long start = System.nanoTime();
+		content.setText(data);
+		long duration = System.nanoTime() - start;
+		System.out.println("setText: " + duration / 1_000_000 + " ms  heap: " + (usedHeap() - heap) / (1024 * 1024) + " MB");
+
+		Random random = new Random(0);
+		for (int run = 0; run < 5; run++) {
+			long max = 0;
+			start = System.nanoTime();
+			for (int i = 0; i < EDIT_PLACES; i++) {
+				int offset = content.getOffsetAtLine(random.nextInt(content.getLineCount()));
+				for (int j = 0; j < EDITS_PER_PLACE; j++) {
+					long editStart = System.nanoTime();
+					content.replaceTextRange(offset + j, 0, j % 10 == 9 ? "\n" : "x");
+					max = Math.max(max, System.nanoTime() - editStart);
+				}
+			}
+			duration = System.nanoTime() - start;
+			int edits = EDIT_PLACES * EDITS_PER_PLACE;
+			System.out.println("Edits: " + edits + "  duration: " + duration / 1_000_000 + " ms  per edit: "
+					+ duration / edits / 1000 + " us  max: " + max / 1000 + " us");
+		}
+
+		display.dispose();
+	}
+
+	static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}